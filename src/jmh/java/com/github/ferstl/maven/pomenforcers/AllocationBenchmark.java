@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.model.functions.DependencyMatcher;
+import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.ARTIFACT_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.GROUP_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.SCOPE;
+
+/**
+ * Benchmarks for the building blocks that allocate most of the memory in the rules: parsing the POM, matching the
+ * declared dependencies against the Maven project, checking and sorting with the priority orderings and rendering an
+ * error report. The allocated bytes per operation of these benchmarks are checked against baselines by the
+ * {@link AllocationGate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class AllocationBenchmark {
+
+  @Param({"100", "1000"})
+  int dependencies;
+
+  private BenchmarkPom pom;
+  private File pomFile;
+  private List<Dependency> mavenDependencies;
+  private List<DependencyModel> declaredDependencies;
+  private List<DependencyModel> shuffledDependencies;
+  private CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.pom = BenchmarkPom.create(this.dependencies);
+    this.pomFile = this.pom.getFile();
+    this.mavenDependencies = this.pom.getProject().getDependencies();
+    this.declaredDependencies = XmlUtils.unmarshal(this.pomFile, ProjectModel.class).getDependencies();
+    this.shuffledDependencies = new ArrayList<>(this.declaredDependencies);
+    Collections.shuffle(this.shuffledDependencies, new Random(42));
+    this.ordering = CompoundPriorityOrdering.orderBy(SCOPE, GROUP_ID, ARTIFACT_ID);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    this.pom.delete();
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) {
+    blackhole.consume(XmlUtils.parseXml(this.pomFile));
+    blackhole.consume(XmlUtils.unmarshal(this.pomFile, ProjectModel.class));
+  }
+
+  @Benchmark
+  public Object match() {
+    return new DependencyMatcher(this.pom.getHelper()).match(this.mavenDependencies, this.declaredDependencies);
+  }
+
+  @Benchmark
+  public boolean orderCheck() {
+    return this.ordering.isOrdered(this.declaredDependencies);
+  }
+
+  @Benchmark
+  public List<DependencyModel> orderSort() {
+    return this.ordering.immutableSortedCopy(this.shuffledDependencies);
+  }
+
+  @Benchmark
+  public String report() {
+    return new ErrorReport(PedanticEnforcerRule.DEPENDENCY_ORDER)
+        .addLine("Your dependencies have to be ordered this way:")
+        .emptyLine()
+        .addDiffUsingToString(this.shuffledDependencies, this.declaredDependencies, "Actual Order", "Required Order")
+        .toString();
+  }
+}
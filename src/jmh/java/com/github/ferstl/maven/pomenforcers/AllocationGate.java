@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the {@link AllocationBenchmark} with the GC profiler and compares the allocated bytes per operation with the
+ * baselines in the given file. The gate fails if a benchmark allocates more than the baseline plus the tolerance or if
+ * a benchmark has no baseline.
+ * <p>
+ * The baseline file contains one line per benchmark and parameter combination with the allocated bytes per operation.
+ * It is rewritten with the measured values when the system property <code>allocation.updateBaselines</code> is set to
+ * <code>true</code>. The relative tolerance is configured with the system property <code>allocation.tolerance</code>
+ * and defaults to 0.1.
+ */
+public final class AllocationGate {
+
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+  /** Differences below this number of bytes are considered noise, regardless of the tolerance. */
+  private static final long MIN_DIFFERENCE = 1024;
+
+  private AllocationGate() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    if (args.length != 1) {
+      System.err.println("Usage: AllocationGate <baseline file>");
+      System.exit(2);
+    }
+
+    Path baselineFile = Paths.get(args[0]);
+    double tolerance = Double.parseDouble(System.getProperty("allocation.tolerance", "0.1"));
+    boolean update = Boolean.getBoolean("allocation.updateBaselines");
+
+    Options options = new OptionsBuilder()
+        .include(AllocationBenchmark.class.getName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    Map<String, Long> measured = new TreeMap<>();
+    for (RunResult result : new Runner(options).run()) {
+      measured.put(key(result), allocatedBytes(result));
+    }
+
+    if (update) {
+      writeBaselines(baselineFile, measured);
+      System.out.println("Updated " + measured.size() + " allocation baselines in " + baselineFile);
+      return;
+    }
+
+    if (!check(readBaselines(baselineFile), measured, tolerance)) {
+      System.exit(1);
+    }
+  }
+
+  private static boolean check(Map<String, Long> baselines, Map<String, Long> measured, double tolerance) {
+    boolean passed = true;
+    System.out.println();
+    System.out.println(String.format("%-50s %14s %14s %8s  %s", "Benchmark", "Baseline B/op", "Actual B/op", "Change", "Result"));
+    for (Entry<String, Long> entry : measured.entrySet()) {
+      Long baseline = baselines.get(entry.getKey());
+      long actual = entry.getValue();
+      if (baseline == null) {
+        System.out.println(String.format("%-50s %14s %14d %8s  %s", entry.getKey(), "-", actual, "-", "NO BASELINE"));
+        passed = false;
+        continue;
+      }
+
+      double change = baseline == 0 ? (actual == 0 ? 0 : Double.POSITIVE_INFINITY) : (actual - baseline) / (double) baseline;
+      boolean regression = actual - baseline > MIN_DIFFERENCE && change > tolerance;
+      boolean improvement = baseline - actual > MIN_DIFFERENCE && -change > tolerance;
+      String verdict = regression ? "REGRESSION" : improvement ? "improved, consider updating the baseline" : "ok";
+      System.out.println(String.format("%-50s %14d %14d %+7.1f%%  %s", entry.getKey(), baseline, actual, change * 100, verdict));
+      passed &= !regression;
+    }
+
+    System.out.println();
+    if (!passed) {
+      System.out.println("Allocation gate failed (tolerance " + Math.round(tolerance * 100) + "%). If the additional allocations are "
+          + "intended, update the baselines with -Dallocation.updateBaselines=true and commit them.");
+    }
+    return passed;
+  }
+
+  private static String key(RunResult result) {
+    BenchmarkParams params = result.getParams();
+    String benchmark = params.getBenchmark();
+    String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+    String paramValues = params.getParamsKeys().stream()
+        .map(key -> key + "=" + params.getParam(key))
+        .collect(Collectors.joining(","));
+    return paramValues.isEmpty() ? name : name + "[" + paramValues + "]";
+  }
+
+  private static long allocatedBytes(RunResult result) {
+    for (Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+      // Older JMH versions prefix the label with a middle dot
+      if (entry.getKey().endsWith(ALLOCATION_METRIC)) {
+        return Math.round(entry.getValue().getScore());
+      }
+    }
+    throw new IllegalStateException("No allocation metric for " + key(result) + ". Is the GC profiler supported by this JVM?");
+  }
+
+  private static Map<String, Long> readBaselines(Path file) throws IOException {
+    Map<String, Long> baselines = new TreeMap<>();
+    if (!Files.exists(file)) {
+      return baselines;
+    }
+
+    for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+      String trimmed = line.trim();
+      if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+        continue;
+      }
+      String[] parts = trimmed.split("\\s+");
+      baselines.put(parts[0], Long.parseLong(parts[1]));
+    }
+    return baselines;
+  }
+
+  private static void writeBaselines(Path file, Map<String, Long> baselines) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("# Allocated bytes per operation of the AllocationBenchmark, checked by the AllocationGate.\n");
+      writer.write("# Update with: mvn -Pbenchmarks,allocation-gate -DskipTests -Dallocation.updateBaselines=true verify\n");
+      for (Entry<String, Long> entry : baselines.entrySet()) {
+        writer.write(entry.getKey() + " " + entry.getValue() + "\n");
+      }
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * A POM file on disk for the benchmarks. The POM is an aggregator with a dependency management and dependencies of the
+ * given size. The modules and the plugin management contain a tenth of the dependencies. All sections are either
+ * sorted or shuffled with a fixed seed, so the unsorted variant exercises the violation and report paths of the rules
+ * and is the same in every run. The
+ * {@link MavenProject} of the POM is created without resolving anything, which is enough for the rules because they
+ * only match the declared elements against the project.
+ */
+final class BenchmarkPom {
+
+  private static final long SHUFFLE_SEED = 42;
+
+  private final Path file;
+  private final MavenProject project;
+  private final ExpressionEvaluator helper;
+
+  private BenchmarkPom(Path file, MavenProject project) {
+    this.file = file;
+    this.project = project;
+    this.helper = new ProjectExpressionEvaluator(project);
+  }
+
+  static BenchmarkPom create(int dependencies) throws IOException {
+    return create(dependencies, true);
+  }
+
+  static BenchmarkPom create(int dependencies, boolean sorted) throws IOException {
+    Path file = Files.createTempFile("benchmark-pom-", ".xml");
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write(render(dependencies, sorted));
+    }
+
+    return new BenchmarkPom(file, readProject(file.toFile()));
+  }
+
+  File getFile() {
+    return this.file.toFile();
+  }
+
+  MavenProject getProject() {
+    return this.project;
+  }
+
+  ExpressionEvaluator getHelper() {
+    return this.helper;
+  }
+
+  void delete() throws IOException {
+    Files.deleteIfExists(this.file);
+  }
+
+  /**
+   * Returns the smallest number of dependencies for which the rendered POM has at least the given size in bytes (but
+   * at least one dependency).
+   */
+  static int dependenciesForSize(long bytes) {
+    int low = 1;
+    int high = 1;
+    while (render(high).length() < bytes) {
+      low = high + 1;
+      high *= 2;
+    }
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (render(mid).length() < bytes) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  static String render(int dependencies) {
+    return render(dependencies, true);
+  }
+
+  static String render(int dependencies, boolean sorted) {
+    int modules = Math.max(1, dependencies / 10);
+    Random random = new Random(SHUFFLE_SEED);
+    StringBuilder sb = new StringBuilder(256 * dependencies)
+        .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+        .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+        .append("  <modelVersion>4.0.0</modelVersion>\n")
+        .append("  <groupId>com.example</groupId>\n")
+        .append("  <artifactId>benchmark</artifactId>\n")
+        .append("  <version>1.0</version>\n")
+        .append("  <packaging>pom</packaging>\n")
+        .append("  <modules>\n");
+    for (int i : order(modules, sorted, random)) {
+      sb.append("    <module>module-").append(pad(i)).append("</module>\n");
+    }
+    sb.append("  </modules>\n")
+        .append("  <dependencyManagement>\n")
+        .append("    <dependencies>\n");
+    for (int i : order(dependencies, sorted, random)) {
+      sb.append("      <dependency>\n")
+          .append("        <groupId>com.example</groupId>\n")
+          .append("        <artifactId>artifact-").append(pad(i)).append("</artifactId>\n")
+          .append("        <version>1.0</version>\n")
+          .append("      </dependency>\n");
+    }
+    sb.append("    </dependencies>\n")
+        .append("  </dependencyManagement>\n")
+        .append("  <dependencies>\n");
+    for (int i : order(dependencies, sorted, random)) {
+      sb.append("    <dependency>\n")
+          .append("      <groupId>com.example</groupId>\n")
+          .append("      <artifactId>artifact-").append(pad(i)).append("</artifactId>\n")
+          .append("    </dependency>\n");
+    }
+    sb.append("  </dependencies>\n")
+        .append("  <build>\n")
+        .append("    <pluginManagement>\n")
+        .append("      <plugins>\n");
+    for (int i : order(modules, sorted, random)) {
+      sb.append("        <plugin>\n")
+          .append("          <groupId>com.example</groupId>\n")
+          .append("          <artifactId>plugin-").append(pad(i)).append("</artifactId>\n")
+          .append("          <version>1.0</version>\n")
+          .append("        </plugin>\n");
+    }
+    return sb.append("      </plugins>\n")
+        .append("    </pluginManagement>\n")
+        .append("  </build>\n")
+        .append("</project>\n")
+        .toString();
+  }
+
+  private static List<Integer> order(int size, boolean sorted, Random random) {
+    List<Integer> indexes = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    if (!sorted) {
+      Collections.shuffle(indexes, random);
+    }
+    return indexes;
+  }
+
+  private static String pad(int i) {
+    return String.format("%05d", i);
+  }
+
+  private static MavenProject readProject(File file) throws IOException {
+    try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      Model model = new MavenXpp3Reader().read(reader);
+      MavenProject project = new MavenProject(model);
+      project.setFile(file);
+      return project;
+    } catch (XmlPullParserException e) {
+      throw new IOException("Cannot read " + file, e);
+    }
+  }
+
+  /**
+   * Minimal expression evaluator which resolves <code>${project}</code> and leaves all other expressions untouched.
+   */
+  private static final class ProjectExpressionEvaluator implements ExpressionEvaluator {
+
+    private final MavenProject project;
+
+    ProjectExpressionEvaluator(MavenProject project) {
+      this.project = project;
+    }
+
+    @Override
+    public Object evaluate(String expression) {
+      if ("${project}".equals(expression)) {
+        return this.project;
+      }
+      return "${session}".equals(expression) ? null : expression;
+    }
+
+    @Override
+    public File alignToBaseDirectory(File file) {
+      return file;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+
+/**
+ * Measures the first-use costs of the rules in a fresh JVM. Each benchmark is executed once per fork, so the results
+ * are distributions over many JVM starts. The benchmarks break the time to the first verdict down into its parts:
+ * <ul>
+ * <li><code>loadLibraries</code>: Class loading and initialization of Guava, java-diff-utils and the JAXB runtime.</li>
+ * <li><code>createRules</code>: Initialization of {@link PedanticEnforcerRule} and creation of all rules.</li>
+ * <li><code>createXmlProviders</code>: Lookup of the JAXP and XPath providers.</li>
+ * <li><code>createJaxbContext</code>: Creation of the JAXB context for the {@link ProjectModel}.</li>
+ * <li><code>firstParse</code>: Parsing and binding the first POM.</li>
+ * <li><code>firstVerdict</code>: Executing the compound rule with all rules on the first POM.</li>
+ * </ul>
+ * Add <code>-prof cl</code> to the JMH options to see the number of loaded classes. Startup optimizations like CDS
+ * archives can be evaluated with <code>-jvmArgsAppend</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(25)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ColdStartBenchmark {
+
+  private static final List<String> LIBRARY_CLASSES = Arrays.asList(
+      "com.google.common.collect.ImmutableList",
+      "com.google.common.collect.Ordering",
+      "com.google.common.collect.HashBiMap",
+      "com.google.common.collect.LinkedHashMultimap",
+      "difflib.DiffUtils",
+      "javax.xml.bind.JAXBContext",
+      "com.sun.xml.bind.v2.ContextFactory",
+      "com.sun.xml.bind.v2.runtime.JAXBContextImpl");
+
+  private BenchmarkPom pom;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.pom = BenchmarkPom.create(10);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    this.pom.delete();
+  }
+
+  @Benchmark
+  public List<Class<?>> loadLibraries() throws ClassNotFoundException {
+    ClassLoader classLoader = getClass().getClassLoader();
+    List<Class<?>> classes = new ArrayList<>(LIBRARY_CLASSES.size());
+    for (String className : LIBRARY_CLASSES) {
+      classes.add(Class.forName(className, true, classLoader));
+    }
+    return classes;
+  }
+
+  @Benchmark
+  public List<AbstractPedanticEnforcer> createRules() {
+    return Arrays.stream(PedanticEnforcerRule.values())
+        .filter(rule -> rule != PedanticEnforcerRule.COMPOUND)
+        .map(rule -> rule.createEnforcerRule(this.pom.getProject(), this.pom.getHelper()))
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public void createXmlProviders(Blackhole blackhole) throws ParserConfigurationException {
+    blackhole.consume(DocumentBuilderFactory.newInstance().newDocumentBuilder());
+    blackhole.consume(XPathFactory.newInstance().newXPath());
+  }
+
+  @Benchmark
+  public JAXBContext createJaxbContext() throws JAXBException {
+    return JAXBContext.newInstance(ProjectModel.class);
+  }
+
+  @Benchmark
+  public void firstParse(Blackhole blackhole) {
+    blackhole.consume(XmlUtils.parseXml(this.pom.getFile()));
+    blackhole.consume(XmlUtils.unmarshal(this.pom.getFile(), ProjectModel.class));
+  }
+
+  @Benchmark
+  public ErrorReport firstVerdict() {
+    CompoundPedanticEnforcer compound = new CompoundPedanticEnforcer(this.pom.getProject(), this.pom.getHelper());
+    compound.setEnforcers(Arrays.stream(PedanticEnforcerRule.values())
+        .filter(rule -> rule != PedanticEnforcerRule.COMPOUND)
+        .map(Enum::name)
+        .collect(Collectors.joining(",")));
+    return compound.enforce();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Ordering;
+
+/**
+ * Checks the order of the modules of a large aggregator with 50 ignored modules. The <code>copy</code> benchmark
+ * copies the modules and removes the ignored ones before the check, the <code>filter</code> benchmark skips them
+ * while checking like the module order rule does. The <code>numeric</code> benchmark checks the numeric-aware order on
+ * keys that are created once per module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModuleOrderBenchmark {
+
+  private static final int IGNORED_MODULES = 50;
+
+  @Param({"1000", "10000"})
+  int modules;
+
+  private List<String> alphabeticalModules;
+  private List<String> numericModules;
+  private Set<String> ignoredModules;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.alphabeticalModules = new ArrayList<>();
+    this.numericModules = new ArrayList<>();
+    this.ignoredModules = new LinkedHashSet<>();
+    for (int i = 0; i < this.modules; i++) {
+      this.alphabeticalModules.add(String.format("services/module-%05d", i));
+      this.numericModules.add("services/module-" + i);
+    }
+    for (int i = 0; i < IGNORED_MODULES; i++) {
+      String ignored = "dist-" + i;
+      this.ignoredModules.add(ignored);
+      this.alphabeticalModules.add(this.alphabeticalModules.size() / 2, ignored);
+      this.numericModules.add(this.numericModules.size() / 2, ignored);
+    }
+  }
+
+  @Benchmark
+  public boolean copy() {
+    List<String> checkedModules = new ArrayList<>(this.alphabeticalModules);
+    checkedModules.removeAll(this.ignoredModules);
+    return Ordering.natural().isOrdered(checkedModules);
+  }
+
+  @Benchmark
+  public boolean filter() {
+    return Ordering.natural().isOrdered(Iterables.filter(this.alphabeticalModules, module -> !this.ignoredModules.contains(module)));
+  }
+
+  @Benchmark
+  public boolean numeric() {
+    Iterable<String> checkedModules = Iterables.filter(this.numericModules, module -> !this.ignoredModules.contains(module));
+    return Ordering.natural().isOrdered(Iterables.transform(checkedModules, ModuleNameKey::of));
+  }
+}
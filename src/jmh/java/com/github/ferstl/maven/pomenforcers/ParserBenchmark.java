@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+
+/**
+ * Compares the backends for loading a POM over a corpus from 1 KB to 5 MB: the DOM path of
+ * {@link XmlUtils#parseXml(File)}, the JAXB path of {@link XmlUtils#unmarshal(File, Class)}, a StAX cursor
+ * ({@link StaxPomReader}) and a byte scanner which only counts the dependencies and marks the lower bound of reading
+ * the file. Run it with the GC profiler for the allocation and with the {@link RetainedHeapProfiler} for the heap that
+ * the loaded model keeps reachable:
+ *
+ * <pre>
+ * mvn -Pbenchmarks -DskipTests verify -Djmh.args="ParserBenchmark -prof gc -prof com.github.ferstl.maven.pomenforcers.RetainedHeapProfiler"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParserBenchmark {
+
+  private static final long RETAINED_HEAP_SAMPLE_BYTES = 32 * 1024 * 1024;
+  private static final int MAX_RETAINED_HEAP_COPIES = 256;
+
+  @Param({"1KB", "64KB", "1MB", "5MB"})
+  String size;
+
+  @Param
+  Backend backend;
+
+  private BenchmarkPom pom;
+  private File pomFile;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    long bytes = parseSize(this.size);
+    this.pom = BenchmarkPom.create(BenchmarkPom.dependenciesForSize(bytes));
+    this.pomFile = this.pom.getFile();
+    int copies = (int) Math.max(1, Math.min(MAX_RETAINED_HEAP_COPIES, RETAINED_HEAP_SAMPLE_BYTES / bytes));
+    RetainedHeapProfiler.record(retainedHeap(copies));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    this.pom.delete();
+  }
+
+  @Benchmark
+  public Object load() {
+    return this.backend.load(this.pomFile);
+  }
+
+  /**
+   * Loads the POM the given number of times, keeps all results reachable and returns the heap growth per result.
+   */
+  private long retainedHeap(int copies) {
+    Object[] results = new Object[copies];
+    long before = usedHeapAfterGc();
+    for (int i = 0; i < copies; i++) {
+      results[i] = this.backend.load(this.pomFile);
+    }
+    long after = usedHeapAfterGc();
+
+    // Keep the results reachable until after the measurement
+    if (results[copies - 1] == null) {
+      throw new IllegalStateException("No result from " + this.backend);
+    }
+    return Math.max(0, (after - before) / copies);
+  }
+
+  private static long usedHeapAfterGc() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  private static long parseSize(String size) {
+    if (size.endsWith("MB")) {
+      return Long.parseLong(size.substring(0, size.length() - 2)) * 1024 * 1024;
+    }
+    if (size.endsWith("KB")) {
+      return Long.parseLong(size.substring(0, size.length() - 2)) * 1024;
+    }
+    return Long.parseLong(size);
+  }
+
+  public enum Backend {
+    DOM {
+      @Override
+      Object load(File file) {
+        return XmlUtils.parseXml(file);
+      }
+    },
+    JAXB {
+      @Override
+      Object load(File file) {
+        return XmlUtils.unmarshal(file, ProjectModel.class);
+      }
+    },
+    STAX {
+      @Override
+      Object load(File file) {
+        return StaxPomReader.read(file);
+      }
+    },
+    SCAN {
+      private final byte[] pattern = "<dependency>".getBytes(StandardCharsets.US_ASCII);
+
+      @Override
+      Object load(File file) {
+        byte[] buffer = new byte[8192];
+        int dependencies = 0;
+        int matched = 0;
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+          int read;
+          while ((read = is.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+              byte b = buffer[i];
+              if (b == this.pattern[matched]) {
+                if (++matched == this.pattern.length) {
+                  dependencies++;
+                  matched = 0;
+                }
+              } else {
+                matched = b == this.pattern[0] ? 1 : 0;
+              }
+            }
+          }
+        } catch (IOException e) {
+          throw new IllegalStateException("Unable to read POM " + file, e);
+        }
+        return dependencies;
+      }
+    };
+
+    abstract Object load(File file);
+  }
+}
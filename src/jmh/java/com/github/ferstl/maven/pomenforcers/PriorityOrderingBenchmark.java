@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.ARTIFACT_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.GROUP_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.SCOPE;
+
+/**
+ * Sorts and checks a dependency management section of 3000 dependencies against 200 groupId priorities. The
+ * priorities are organized by company, division and team, so several priorities of different length match most
+ * groupIds. About a fifth of the dependencies don't match any priority. The compound benchmark sorts by scope, groupId
+ * and artifactId like the dependency management order rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PriorityOrderingBenchmark {
+
+  private static final int DEPENDENCIES = 3000;
+  private static final String[] COMPANIES = {"com.acme", "com.example", "org.initech", "ch.globex"};
+  private static final String[] DIVISIONS = {"core", "platform", "payments", "infrastructure", "data", "mobile", "web"};
+  // 4 companies with 7 divisions with 6 teams each result in 200 priorities
+  private static final String[] TEAMS = {"api", "persistence", "messaging", "identity", "reporting", "search"};
+
+  private PriorityOrdering<String, DependencyModel> ordering;
+  private CompoundPriorityOrdering<DependencyModel, String, DependencyElement> compoundOrdering;
+  private List<DependencyModel> shuffledDependencies;
+  private List<DependencyModel> sortedDependencies;
+  private List<DependencyModel> compoundSortedDependencies;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    List<String> priorities = new ArrayList<>();
+    for (String company : COMPANIES) {
+      priorities.add(company);
+      for (String division : DIVISIONS) {
+        priorities.add(company + "." + division);
+        for (String team : TEAMS) {
+          priorities.add(company + "." + division + "." + team);
+        }
+      }
+    }
+
+    Random random = new Random(42);
+    this.shuffledDependencies = new ArrayList<>(DEPENDENCIES);
+    for (int i = 0; i < DEPENDENCIES; i++) {
+      String groupId = random.nextInt(5) == 0
+          ? "org.thirdparty" + random.nextInt(100)
+          : priorities.get(random.nextInt(priorities.size())) + ".module" + random.nextInt(10);
+      this.shuffledDependencies.add(new DependencyModel(groupId, "artifact-" + i, "1.0", null, null, null));
+    }
+
+    this.ordering = GROUP_ID.createPriorityOrdering(priorities);
+    this.sortedDependencies = this.ordering.immutableSortedCopy(this.shuffledDependencies);
+    this.compoundOrdering = CompoundPriorityOrdering.orderBy(SCOPE, GROUP_ID, ARTIFACT_ID);
+    this.compoundOrdering.setPriorities(GROUP_ID, priorities);
+    this.compoundSortedDependencies = this.compoundOrdering.immutableSortedCopy(this.shuffledDependencies);
+  }
+
+  @Benchmark
+  public List<DependencyModel> sort() {
+    return this.ordering.immutableSortedCopy(this.shuffledDependencies);
+  }
+
+  @Benchmark
+  public boolean isOrdered() {
+    return this.ordering.isOrdered(this.sortedDependencies);
+  }
+
+  @Benchmark
+  public List<DependencyModel> compoundSort() {
+    return this.compoundOrdering.immutableSortedCopy(this.shuffledDependencies);
+  }
+
+  @Benchmark
+  public boolean compoundIsOrdered() {
+    return this.compoundOrdering.isOrdered(this.compoundSortedDependencies);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.Collection;
+import java.util.Collections;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * JMH profiler which reports the retained heap recorded by a benchmark as secondary result
+ * <code>retained.heap</code>. JMH has no built-in metric for the memory that stays reachable after an operation, so the
+ * benchmark measures it once in its setup and hands it over with {@link #record(long)}. Enable the profiler with
+ * <code>-prof com.github.ferstl.maven.pomenforcers.RetainedHeapProfiler</code>.
+ */
+public class RetainedHeapProfiler implements InternalProfiler {
+
+  private static volatile long retainedBytes = -1;
+
+  static void record(long bytes) {
+    retainedBytes = bytes;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Retained heap per operation as recorded by the benchmark";
+  }
+
+  @Override
+  public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(
+      BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+    long bytes = retainedBytes;
+    if (bytes < 0) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(new ScalarResult("retained.heap", bytes, "B/op", AggregationPolicy.AVG));
+  }
+}
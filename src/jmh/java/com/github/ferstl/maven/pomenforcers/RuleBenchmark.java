@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of each pedantic enforcer rule and of the {@link CompoundPedanticEnforcer} with all rules.
+ * Every invocation creates a new rule, parses the POM and executes the rule, like the maven-enforcer-plugin does for
+ * each module. Unsorted POMs measure the rules including their violation reports. The allocation rate is reported by
+ * the GC profiler, which is enabled by default in the <code>benchmarks</code> profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RuleBenchmark {
+
+  // 10000 dependencies are left out, the matching rules already allocate hundreds of megabytes per operation at 1000.
+  @Param({"10", "100", "1000"})
+  int dependencies;
+
+  @Param({"true", "false"})
+  boolean sorted;
+
+  @Param({
+      "COMPOUND",
+      "POM_SECTION_ORDER",
+      "MODULE_ORDER",
+      "DEPENDENCY_MANAGEMENT_ORDER",
+      "DEPENDENCY_MANAGEMENT_LOCATION",
+      "DEPENDENCY_ORDER",
+      "DEPENDENCY_CONFIGURATION",
+      "DEPENDENCY_ELEMENT",
+      "DEPENDENCY_SCOPE",
+      "PLUGIN_MANAGEMENT_ORDER",
+      "PLUGIN_CONFIGURATION",
+      "PLUGIN_ELEMENT",
+      "PLUGIN_MANAGEMENT_LOCATION"})
+  PedanticEnforcerRule rule;
+
+  private BenchmarkPom pom;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.pom = BenchmarkPom.create(this.dependencies, this.sorted);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    this.pom.delete();
+  }
+
+  @Benchmark
+  public ErrorReport enforce() {
+    return createRule().enforce();
+  }
+
+  private AbstractPedanticEnforcer createRule() {
+    if (this.rule == PedanticEnforcerRule.COMPOUND) {
+      CompoundPedanticEnforcer compound = new CompoundPedanticEnforcer(this.pom.getProject(), this.pom.getHelper());
+      compound.setEnforcers(Arrays.stream(PedanticEnforcerRule.values())
+          .filter(r -> r != PedanticEnforcerRule.COMPOUND)
+          .map(Enum::name)
+          .collect(Collectors.joining(",")));
+      return compound;
+    }
+
+    return this.rule.createEnforcerRule(this.pom.getProject(), this.pom.getHelper());
+  }
+}
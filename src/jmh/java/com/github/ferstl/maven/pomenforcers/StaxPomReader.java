@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.PluginModel;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Prototype of a streaming POM loader for the {@link ParserBenchmark}. It reads the modules, the dependency
+ * management, the dependencies, the plugin management and the plugins of a POM with a StAX cursor in a single pass and
+ * creates the same model objects as the JAXB path, but without exclusions, configurations or profiles.
+ */
+final class StaxPomReader {
+
+  private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+
+  private static final Set<String> ARTIFACT_ELEMENTS =
+      ImmutableSet.of("groupId", "artifactId", "version", "scope", "classifier", "type");
+
+  private static final String MODULE = "/project/modules/module";
+  private static final String MANAGED_DEPENDENCY = "/project/dependencyManagement/dependencies/dependency";
+  private static final String DEPENDENCY = "/project/dependencies/dependency";
+  private static final String MANAGED_PLUGIN = "/project/build/pluginManagement/plugins/plugin";
+  private static final String PLUGIN = "/project/build/plugins/plugin";
+
+  private final List<String> modules = new ArrayList<>();
+  private final List<DependencyModel> managedDependencies = new ArrayList<>();
+  private final List<DependencyModel> dependencies = new ArrayList<>();
+  private final List<PluginModel> managedPlugins = new ArrayList<>();
+  private final List<PluginModel> plugins = new ArrayList<>();
+
+  private final StringBuilder path = new StringBuilder(128);
+  private final int[] pathLengths = new int[64];
+  private final Map<String, String> artifact = new HashMap<>();
+  private int depth;
+  private int artifactDepth = -1;
+
+  static StaxPomReader read(File file) {
+    StaxPomReader reader = new StaxPomReader();
+    try (InputStream is = Files.newInputStream(file.toPath())) {
+      XMLStreamReader cursor = INPUT_FACTORY.createXMLStreamReader(is);
+      try {
+        reader.read(cursor);
+      } finally {
+        cursor.close();
+      }
+    } catch (IOException | XMLStreamException e) {
+      throw new IllegalStateException("Unable to read POM " + file, e);
+    }
+    return reader;
+  }
+
+  List<String> getModules() {
+    return this.modules;
+  }
+
+  List<DependencyModel> getManagedDependencies() {
+    return this.managedDependencies;
+  }
+
+  List<DependencyModel> getDependencies() {
+    return this.dependencies;
+  }
+
+  List<PluginModel> getManagedPlugins() {
+    return this.managedPlugins;
+  }
+
+  List<PluginModel> getPlugins() {
+    return this.plugins;
+  }
+
+  private void read(XMLStreamReader cursor) throws XMLStreamException {
+    while (cursor.hasNext()) {
+      int event = cursor.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        startElement(cursor);
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        endElement();
+      }
+    }
+  }
+
+  private void startElement(XMLStreamReader cursor) throws XMLStreamException {
+    String name = cursor.getLocalName();
+    if (this.artifactDepth >= 0 && this.depth == this.artifactDepth) {
+      // Child of a dependency or plugin. Both methods consume the end element.
+      if (ARTIFACT_ELEMENTS.contains(name)) {
+        this.artifact.put(name, cursor.getElementText().trim());
+      } else {
+        skipElement(cursor);
+      }
+      return;
+    }
+
+    this.pathLengths[this.depth++] = this.path.length();
+    this.path.append('/').append(name);
+
+    if (pathEquals(MODULE)) {
+      this.modules.add(cursor.getElementText().trim());
+      popPath();
+    } else if (pathEquals(MANAGED_DEPENDENCY) || pathEquals(DEPENDENCY)
+        || pathEquals(MANAGED_PLUGIN) || pathEquals(PLUGIN)) {
+      this.artifactDepth = this.depth;
+      this.artifact.clear();
+    }
+  }
+
+  private void endElement() {
+    if (this.depth == this.artifactDepth) {
+      if (pathEquals(MANAGED_DEPENDENCY)) {
+        this.managedDependencies.add(createDependency());
+      } else if (pathEquals(DEPENDENCY)) {
+        this.dependencies.add(createDependency());
+      } else if (pathEquals(MANAGED_PLUGIN)) {
+        this.managedPlugins.add(createPlugin());
+      } else {
+        this.plugins.add(createPlugin());
+      }
+      this.artifactDepth = -1;
+    }
+    popPath();
+  }
+
+  private static void skipElement(XMLStreamReader cursor) throws XMLStreamException {
+    int level = 1;
+    while (level > 0) {
+      int event = cursor.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        level++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        level--;
+      }
+    }
+  }
+
+  private DependencyModel createDependency() {
+    return new DependencyModel(
+        this.artifact.get("groupId"),
+        this.artifact.get("artifactId"),
+        this.artifact.get("version"),
+        this.artifact.get("scope"),
+        this.artifact.get("classifier"),
+        this.artifact.get("type"));
+  }
+
+  private PluginModel createPlugin() {
+    return new PluginModel(this.artifact.get("groupId"), this.artifact.get("artifactId"), this.artifact.get("version"));
+  }
+
+  private boolean pathEquals(String expected) {
+    return this.path.length() == expected.length() && this.path.indexOf(expected) == 0;
+  }
+
+  private void popPath() {
+    this.path.setLength(this.pathLengths[--this.depth]);
+  }
+}
@@ -18,6 +18,7 @@ package com.github.ferstl.maven.pomenforcers;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
@@ -27,8 +28,11 @@ import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
 import com.github.ferstl.maven.pomenforcers.model.functions.DependencyMatcher;
 import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolations;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import com.google.common.collect.BiMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.ARTIFACT_ID;
 import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.GROUP_ID;
@@ -39,6 +43,7 @@ import static java.util.stream.Collectors.toList;
 abstract class AbstractPedanticDependencyOrderEnforcer extends AbstractPedanticEnforcer {
 
   private final CompoundPriorityOrdering<DependencyModel, String, DependencyElement> artifactOrdering;
+  private boolean reportMinimalMoves;
 
   public AbstractPedanticDependencyOrderEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
     super(project, helper);
@@ -114,12 +119,29 @@ abstract class AbstractPedanticDependencyOrderEnforcer extends AbstractPedanticE
     this.artifactOrdering.setPriorities(DependencyElement.SCOPE, scopePriorities);
   }
 
+  /**
+   * If set to <code>true</code>, a wrong order is reported as the minimal set of dependencies that have to be moved,
+   * together with their positions in the required order, instead of a side-by-side diff of the dependencies.
+   * The dependencies that stay in place form the longest sequence of dependencies that is already in order.
+   *
+   * @param reportMinimalMoves Report the minimal moves instead of a diff.
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  public void setReportMinimalMoves(boolean reportMinimalMoves) {
+    this.reportMinimalMoves = reportMinimalMoves;
+  }
+
   protected abstract Collection<DependencyModel> getDeclaredDependencies();
 
   protected abstract Collection<Dependency> getMavenDependencies(MavenProject mavenProject);
 
-  protected abstract void reportError(
-      ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies);
+  protected abstract void reportError(ErrorReport report, List<DependencyModel> resolvedDependencies, OrderViolations violations);
+
+  protected Ordering<DependencyModel> getArtifactOrdering() {
+    return this.artifactOrdering;
+  }
 
   @Override
   protected final void doEnforce(ErrorReport report) {
@@ -129,9 +151,14 @@ abstract class AbstractPedanticDependencyOrderEnforcer extends AbstractPedanticE
     BiMap<DependencyModel, DependencyModel> matchedDependencies =
         dependencyMatcher.match(getMavenDependencies(mavenProject), getDeclaredDependencies());
 
-    Set<DependencyModel> resolvedDependencies = matchedDependencies.keySet();
-    if (!this.artifactOrdering.isOrdered(resolvedDependencies)) {
-      reportError(report, resolvedDependencies, this.artifactOrdering.immutableSortedCopy(resolvedDependencies));
+    List<DependencyModel> resolvedDependencies = ImmutableList.copyOf(matchedDependencies.keySet());
+    OrderViolations violations = findOrderViolations(this.artifactOrdering, resolvedDependencies);
+    if (!violations.isEmpty()) {
+      if (this.reportMinimalMoves) {
+        report.addMinimalMoves(findMinimalMoves(this.artifactOrdering, resolvedDependencies));
+      } else {
+        reportError(report, resolvedDependencies, violations);
+      }
     }
   }
 }
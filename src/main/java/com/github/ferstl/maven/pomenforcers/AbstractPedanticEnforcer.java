@@ -15,25 +15,44 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import javax.xml.bind.JAXB;
+import java.util.Set;
 import org.apache.maven.enforcer.rule.api.AbstractEnforcerRule;
 import org.apache.maven.enforcer.rule.api.EnforcerLevel;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleException;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+import com.github.ferstl.maven.pomenforcers.metrics.EventContext;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.PhaseEvent;
+import com.github.ferstl.maven.pomenforcers.model.ContentSection;
 import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
-import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.MinimalMoves;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolations;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Ordering;
 
 public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
 
-  private final ExpressionEvaluator helper;
+  private ExpressionEvaluator helper;
 
-  private final MavenProject project;
+  private MavenProject project;
 
   private Document pom;
   private ProjectModel projectModel;
+  private Set<ContentSection> contentSections;
+  private RuleExecution execution;
 
   /**
    * If set to <code>true</code>, the enforcer rule will only issue a warning in the log and not fail the build.
@@ -45,24 +64,159 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
    */
   private boolean warnOnly;
 
+  /**
+   * If set to <code>true</code> together with <code>warnOnly</code>, the enforcer rule is executed in the background
+   * and does not block the build of the Maven module. All warnings are logged in a consolidated summary when the Maven
+   * session ends, even if the build fails early or the rule is not executed in every module.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean asyncWarnOnly;
+
+  /**
+   * If set to <code>true</code>, a violation that has already been reported for another module of the reactor is not
+   * reported in full again. Instead, the report refers to the module where the violation was reported first.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean deduplicateViolations;
+
+  /**
+   * If set to <code>true</code>, the time and memory spent in the enforcer rules of all modules is logged in a summary
+   * when the Maven session ends, even if the build fails early or the rule is not executed in every module. The
+   * summary contains the latency percentiles of each rule, the distribution of the POM sizes and the slowest modules of
+   * each rule. The metrics of a single module are always logged in debug mode (<code>-X</code>).
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean metricsSummary;
+
+  /**
+   * If set, the metrics of all modules are written to this file when the Maven session ends, even if the build fails
+   * early or the rule is not executed in every module. The file contains one entry per module, rule and phase. Files
+   * ending with <code>.json</code> are written in JSON, all other files in CSV. Relative paths are resolved against the
+   * directory where Maven was started.
+   *
+   * @configParam
+   * @default n/a
+   * @since 2.4.0
+   */
+  private String metricsExport;
+
+  /**
+   * If set to <code>true</code>, operations like comparisons, rank lookups, property evaluations and match attempts
+   * are counted for each rule and logged together with the number of elements in the POM. This helps finding rules
+   * whose effort grows disproportionately with the size of the POM.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean diagnostics;
+
+  /**
+   * Time budget in milliseconds for each rule and module. A warning with the module, the rule and the number of
+   * elements in the POM is logged when a rule exceeds its budget. The budget is disabled if set to 0. For the
+   * <code>CompoundPedanticEnforcer</code>, the budget applies to each of the configured rules.
+   *
+   * @configParam
+   * @default 0
+   * @since 2.4.0
+   */
+  private long ruleTimeBudget;
+
+  /**
+   * If set to <code>true</code> together with <code>ruleTimeBudget</code>, a rule that exceeds its time budget is
+   * cancelled and skipped instead of running to completion. The cancellation is logged as warning, listed in the report
+   * of the <code>CompoundPedanticEnforcer</code> and counted in the <code>metricsSummary</code>. The budget is checked
+   * between single operations, so a rule is cancelled at the latest after the operation that exceeded the budget, e.g.
+   * sorting the elements for the report. The <code>CompoundPedanticEnforcer</code> lists a cancelled rule even if no
+   * other rule has found a violation, so the cancellation fails the build unless <code>warnOnly</code> is set.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean cancelSlowRules;
+
   public AbstractPedanticEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
     this.project = Objects.requireNonNull(project);
     this.helper = Objects.requireNonNull(helper);
+    this.execution = new RuleExecution(project);
   }
 
   @Override
   public final void execute() throws EnforcerRuleException {
-    Document pom = XmlUtils.parseXml(project.getFile());
-    ProjectModel model = JAXB.unmarshal(project.getFile(), ProjectModel.class);
+    if (this.warnOnly && this.asyncWarnOnly) {
+      MavenSession session = getSession();
+      if (session != null && AsyncEnforcement.forSession(session).submit(this, getLog())) {
+        return;
+      }
+    }
+
+    try (EventContext context = openEventContext()) {
+      ErrorReport report = enforce();
+      if (report.hasErrors()) {
+        throw new EnforcerRuleException(deduplicate(report).toString());
+      }
+    }
+  }
+
+  /**
+   * Replaces the Maven objects of this rule with snapshots before the rule is handed over to another thread: a copy of
+   * the project, the captured results of all expressions the rule evaluates, and the given logger.
+   *
+   * @param log Logger to be used instead of the logger of the mojo.
+   */
+  void detach(EnforcerLogger log) {
+    this.helper = CapturedExpressionEvaluator.capture(this.project.getFile(), this.helper);
+    this.project = this.project.clone();
+    this.execution = new RuleExecution(this.project);
+    setLog(log);
+  }
+
+  /**
+   * Assigns this rule and its project to all events recorded on the current thread, see {@link EnforcerEvents}.
+   *
+   * @return The context to be closed after the rule has been executed.
+   */
+  EventContext openEventContext() {
+    return EnforcerEvents.context(this.project.getId(), getDescription().name());
+  }
 
+  /**
+   * Parses the POM file of the Maven project and executes this rule.
+   *
+   * @return The report containing the violations of this rule.
+   */
+  ErrorReport enforce() {
+    this.execution.setDiagnostics(this.diagnostics);
+    this.execution.setTimeBudget(this.ruleTimeBudget, this.cancelSlowRules);
+    this.execution.setMetricsSummary(this.metricsSummary);
+    this.execution.setMetricsExport(this.metricsExport);
+
+    Document pom = this.execution.parse();
+    ProjectModel model = this.execution.bind();
     initialize(pom, model);
 
-    ErrorReport report = new ErrorReport(getDescription());
-    doEnforce(report);
+    ErrorReport report = this.execution.run(getDescription(), hasTimeBudget(), this::doEnforce, getLog());
+    this.execution.finish(getDescription(), getLog(), this::getSession);
+    return report;
+  }
 
-    if (report.hasErrors()) {
-      throw new EnforcerRuleException(report.toString());
-    }
+  /**
+   * Whether the time budget applies to this rule as a whole.
+   *
+   * @return <code>true</code> by default.
+   */
+  boolean hasTimeBudget() {
+    return true;
   }
 
   /**
@@ -76,6 +230,7 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
   void initialize(Document pom, ProjectModel projectModel) {
     this.pom = pom;
     this.projectModel = projectModel;
+    this.contentSections = ContentSection.scan(projectModel);
   }
 
   protected ExpressionEvaluator getHelper() {
@@ -94,6 +249,136 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
     return this.projectModel;
   }
 
+  protected Set<ContentSection> getContentSections() {
+    return this.contentSections;
+  }
+
+  protected ExecutionMetrics getMetrics() {
+    return this.execution.getMetrics();
+  }
+
+  RuleExecution getExecution() {
+    return this.execution;
+  }
+
+  /**
+   * Replaces the given report with a reference if the same violation has already been reported for another project
+   * and <code>deduplicateViolations</code> is enabled.
+   *
+   * @param report The report.
+   * @return The given report or a reference to the first occurrence of the same violation.
+   */
+  ErrorReport deduplicate(ErrorReport report) {
+    if (this.deduplicateViolations) {
+      MavenSession session = getSession();
+      if (session != null) {
+        String firstLocation = ViolationRegistry.forSession(session).register(report.getFingerprint(), this.project.getId());
+        if (firstLocation != null) {
+          return report.referenceTo(firstLocation);
+        }
+      }
+    }
+
+    return report;
+  }
+
+  private MavenSession getSession() {
+    try {
+      Object session = this.helper.evaluate("${session}");
+      return session instanceof MavenSession ? (MavenSession) session : null;
+    } catch (ExpressionEvaluationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether the given elements are ordered according to the given ordering. The elements can be a lazy view of
+   * another collection. Such a view is counted for the order check event only while the event is recorded. The time
+   * budget is checked for each element, so rules that do not count any operations can be cancelled, too.
+   *
+   * @param ordering The ordering.
+   * @param elements The elements to check.
+   * @return <code>true</code> if the elements are ordered.
+   */
+  protected static <T> boolean isOrdered(Ordering<? super T> ordering, Iterable<T> elements) {
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.ORDER_CHECK)) {
+      if (event.isRecording()) {
+        event.withElements(Iterables.size(elements));
+      }
+
+      Iterator<T> iterator = elements.iterator();
+      if (!iterator.hasNext()) {
+        return true;
+      }
+
+      T previous = iterator.next();
+      while (iterator.hasNext()) {
+        ExecutionMetrics.checkTimeBudget();
+        T next = iterator.next();
+        if (ordering.compare(previous, next) > 0) {
+          return false;
+        }
+        previous = next;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Finds all elements that are out of order according to the given compound ordering in a single pass. Each element
+   * is transformed and ranked only once. The compound ordering counts its comparisons, which also checks the time
+   * budget.
+   *
+   * @param ordering The compound ordering.
+   * @param elements The elements to check.
+   * @return The violations.
+   */
+  protected static <T> OrderViolations findOrderViolations(CompoundPriorityOrdering<T, ?, ?> ordering, Collection<T> elements) {
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.ORDER_CHECK).withElements(elements.size())) {
+      return ordering.findViolations(elements);
+    }
+  }
+
+  /**
+   * Adds a diff of the region in which the given elements are out of order. The region reaches from the predecessor
+   * of the first violation to the last violation and is extended by the neighbouring elements that have to move into
+   * it. Only this region is sorted and compared. All other elements already are at their required position.
+   *
+   * @param report The report.
+   * @param ordering The ordering.
+   * @param elements The elements in their actual order.
+   * @param violations The violations of the given elements.
+   */
+  protected static <T> void addOrderViolationDiff(ErrorReport report, Ordering<? super T> ordering, List<T> elements, OrderViolations violations) {
+    int from = violations.getFirstPosition() - 1;
+    int to = violations.getLastPosition() + 1;
+    T min = ordering.min(elements.subList(from, to));
+    T max = ordering.max(elements.subList(from, to));
+    while (from > 0 && ordering.compare(elements.get(from - 1), min) > 0) {
+      from--;
+    }
+    while (to < elements.size() && ordering.compare(elements.get(to), max) < 0) {
+      to++;
+    }
+
+    List<T> requiredRegion = ordering.immutableSortedCopy(elements.subList(from, to));
+    report.addRegionDiffUsingToString(elements, from, to, requiredRegion, "Actual Order", "Required Order");
+  }
+
+  /**
+   * Finds the minimal set of elements that have to be moved to order the given elements according to the given
+   * comparator.
+   *
+   * @param comparator The comparator.
+   * @param elements The elements to check.
+   * @return The moves.
+   */
+  protected static <T> MinimalMoves<T> findMinimalMoves(Comparator<? super T> comparator, Collection<T> elements) {
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.DIFF).withElements(elements.size())) {
+      return MinimalMoves.find(comparator, elements);
+    }
+  }
+
   protected abstract PedanticEnforcerRule getDescription();
 
   protected abstract void doEnforce(ErrorReport report);
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import com.github.ferstl.maven.pomenforcers.metrics.EventContext;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Executes pedantic enforcer rules in the background when they are configured with <code>warnOnly</code> and
+ * <code>asyncWarnOnly</code>. The findings are collected and logged in a consolidated summary when the Maven session
+ * ends, see {@link SessionEnd}. This also happens if the build fails early or if the rules are not executed in every
+ * project of the reactor. Identical findings are identified by their fingerprint and are logged only once, together
+ * with the list of affected projects. The work queue is bounded: if it is full, the submitting thread executes the rule
+ * itself. Before a rule is handed over, it is detached from the Maven objects of the mojo, see
+ * {@link AbstractPedanticEnforcer#detach(EnforcerLogger)}. Its log messages are buffered and logged together with the
+ * summary. The worker threads are daemon threads, and the session end waits only briefly for pending rules.
+ */
+final class AsyncEnforcement {
+
+  private static final int QUEUE_CAPACITY = 64;
+  private static final int MAX_FINDINGS = 1000;
+  private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+  private static final SessionScope<AsyncEnforcement> SCOPE = new SessionScope<>(AsyncEnforcement::new);
+
+  private final MavenSession session;
+  private final ThreadPoolExecutor executor;
+  private final Set<String> checkedProjects;
+  private final Map<String, Finding> findings;
+  private final AtomicInteger findingCount;
+  private final DeferredLog deferredLog;
+  private volatile EnforcerLogger log;
+  private volatile boolean drained;
+
+  static AsyncEnforcement forSession(MavenSession session) {
+    return SCOPE.get(session);
+  }
+
+  private AsyncEnforcement(MavenSession session) {
+    this.session = session;
+    int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    this.executor = new ThreadPoolExecutor(
+        threads, threads, 0, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("pedantic-pom-enforcers-%d").build(),
+        AsyncEnforcement::runInCaller);
+    this.checkedProjects = ConcurrentHashMap.newKeySet();
+    this.findings = new ConcurrentHashMap<>();
+    this.findingCount = new AtomicInteger();
+    this.deferredLog = new DeferredLog();
+    SessionEnd.forSession(session).register(this::drain);
+  }
+
+  /**
+   * Submits the given rule for background execution.
+   *
+   * @param rule The rule to execute.
+   * @param log Logger for the consolidated summary and the buffered log messages of the rule.
+   * @return <code>true</code> if the rule was submitted, <code>false</code> if the summary for this session has already
+   * been written. In this case the caller has to execute the rule itself.
+   */
+  boolean submit(AbstractPedanticEnforcer rule, EnforcerLogger log) {
+    if (this.drained) {
+      return false;
+    }
+
+    this.log = log;
+    this.deferredLog.captureLevels(log);
+    String projectId = rule.getMavenProject().getId();
+    rule.detach(this.deferredLog);
+    try {
+      this.executor.execute(() -> collect(projectId, rule));
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+
+    this.checkedProjects.add(projectId);
+    return true;
+  }
+
+  private void collect(String projectId, AbstractPedanticEnforcer rule) {
+    try (EventContext context = rule.openEventContext()) {
+      ErrorReport report;
+      try {
+        report = rule.enforce();
+      } catch (RuntimeException e) {
+        String message = rule.getDescription() + " could not be executed: " + e.getMessage();
+        addFinding(projectId, message, message);
+        return;
+      }
+
+      if (report.hasErrors()) {
+        addFinding(projectId, report.getFingerprint(), report.toString());
+      }
+    }
+  }
+
+  private void addFinding(String projectId, String fingerprint, String text) {
+    this.findingCount.incrementAndGet();
+    Finding finding = this.findings.get(fingerprint);
+    if (finding == null && this.findings.size() < MAX_FINDINGS) {
+      finding = this.findings.computeIfAbsent(fingerprint, k -> new Finding(text));
+    }
+    if (finding != null) {
+      finding.addProject(projectId);
+    }
+  }
+
+  /**
+   * Waits for the pending rules and logs the consolidated summary. Called when the session ends.
+   */
+  synchronized void drain() {
+    EnforcerLogger log = this.log;
+    if (this.drained || log == null) {
+      return;
+    }
+    this.drained = true;
+
+    this.executor.shutdown();
+    try {
+      if (!this.executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        this.executor.shutdownNow();
+        log.warn("Pedantic POM enforcers did not finish within " + DRAIN_TIMEOUT_SECONDS + " seconds. The summary is incomplete.");
+      }
+    } catch (InterruptedException e) {
+      this.executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+
+    this.deferredLog.flush(log);
+    writeSummary(log);
+  }
+
+  private void writeSummary(EnforcerLogger log) {
+    int count = this.findingCount.get();
+    if (count == 0) {
+      log.info("Pedantic POM enforcers: No warnings in " + formatCheckedProjects() + ".");
+      return;
+    }
+
+    Map<String, Integer> reactorOrder = new HashMap<>();
+    for (MavenProject project : this.session.getProjects()) {
+      reactorOrder.putIfAbsent(project.getId(), reactorOrder.size());
+    }
+    List<Finding> distinctFindings = new ArrayList<>(this.findings.values());
+    distinctFindings.sort(Comparator.comparingInt(finding -> finding.getFirstPosition(reactorOrder)));
+
+    StringBuilder sb = new StringBuilder("Pedantic POM enforcers: ")
+        .append(count)
+        .append(" warnings (")
+        .append(distinctFindings.size())
+        .append(" distinct) in ")
+        .append(formatCheckedProjects());
+    int reported = 0;
+    for (Finding finding : distinctFindings) {
+      List<String> projects = finding.getProjects(reactorOrder);
+      reported += projects.size();
+      sb.append("\n\nAffected projects (").append(projects.size()).append("): ")
+          .append(String.join(", ", projects))
+          .append('\n')
+          .append(finding.text);
+    }
+
+    if (count > reported) {
+      sb.append("\n\n").append(count - reported).append(" more warnings were omitted.");
+    }
+
+    log.warn(sb);
+  }
+
+  private String formatCheckedProjects() {
+    int reactorSize = this.session.getProjects().size();
+    int checked = this.checkedProjects.size();
+    return checked < reactorSize ? checked + " of " + reactorSize + " projects" : checked + " projects";
+  }
+
+  private static void runInCaller(Runnable task, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    task.run();
+  }
+
+  private static class Finding {
+
+    private final String text;
+    private final Queue<String> projects;
+
+    Finding(String text) {
+      this.text = text;
+      this.projects = new ConcurrentLinkedQueue<>();
+    }
+
+    void addProject(String projectId) {
+      this.projects.add(projectId);
+    }
+
+    int getFirstPosition(Map<String, Integer> reactorOrder) {
+      return this.projects.stream()
+          .mapToInt(projectId -> reactorOrder.getOrDefault(projectId, Integer.MAX_VALUE))
+          .min()
+          .orElse(Integer.MAX_VALUE);
+    }
+
+    List<String> getProjects(Map<String, Integer> reactorOrder) {
+      List<String> sortedProjects = new ArrayList<>(this.projects);
+      sortedProjects.sort(Comparator.comparingInt(projectId -> reactorOrder.getOrDefault(projectId, Integer.MAX_VALUE)));
+      return sortedProjects;
+    }
+  }
+
+  /**
+   * Buffers the log messages of the rules executed in the background until the session ends. Afterwards, the messages
+   * are passed to the logger of the summary.
+   */
+  private static class DeferredLog implements EnforcerLogger {
+
+    private final Queue<Consumer<EnforcerLogger>> messages;
+    private volatile EnforcerLogger target;
+    private volatile boolean debugEnabled;
+    private volatile boolean infoEnabled;
+    private volatile boolean warnEnabled;
+    private volatile boolean errorEnabled;
+
+    DeferredLog() {
+      this.messages = new ConcurrentLinkedQueue<>();
+    }
+
+    void captureLevels(EnforcerLogger log) {
+      this.debugEnabled = log.isDebugEnabled();
+      this.infoEnabled = log.isInfoEnabled();
+      this.warnEnabled = log.isWarnEnabled();
+      this.errorEnabled = log.isErrorEnabled();
+    }
+
+    synchronized void flush(EnforcerLogger log) {
+      this.target = log;
+      Consumer<EnforcerLogger> message;
+      while ((message = this.messages.poll()) != null) {
+        message.accept(log);
+      }
+    }
+
+    private synchronized void log(Consumer<EnforcerLogger> message) {
+      EnforcerLogger target = this.target;
+      if (target != null) {
+        message.accept(target);
+      } else {
+        this.messages.add(message);
+      }
+    }
+
+    @Override
+    public void warnOrError(CharSequence message) {
+      String text = message.toString();
+      log(log -> log.warnOrError(text));
+    }
+
+    @Override
+    public void warnOrError(Supplier<CharSequence> messageSupplier) {
+      warnOrError(messageSupplier.get());
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+      return this.debugEnabled;
+    }
+
+    @Override
+    public void debug(CharSequence message) {
+      if (this.debugEnabled) {
+        String text = message.toString();
+        log(log -> log.debug(text));
+      }
+    }
+
+    @Override
+    public void debug(Supplier<CharSequence> messageSupplier) {
+      if (this.debugEnabled) {
+        debug(messageSupplier.get());
+      }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+      return this.infoEnabled;
+    }
+
+    @Override
+    public void info(CharSequence message) {
+      if (this.infoEnabled) {
+        String text = message.toString();
+        log(log -> log.info(text));
+      }
+    }
+
+    @Override
+    public void info(Supplier<CharSequence> messageSupplier) {
+      if (this.infoEnabled) {
+        info(messageSupplier.get());
+      }
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+      return this.warnEnabled;
+    }
+
+    @Override
+    public void warn(CharSequence message) {
+      if (this.warnEnabled) {
+        String text = message.toString();
+        log(log -> log.warn(text));
+      }
+    }
+
+    @Override
+    public void warn(Supplier<CharSequence> messageSupplier) {
+      if (this.warnEnabled) {
+        warn(messageSupplier.get());
+      }
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+      return this.errorEnabled;
+    }
+
+    @Override
+    public void error(CharSequence message) {
+      if (this.errorEnabled) {
+        String text = message.toString();
+        log(log -> log.error(text));
+      }
+    }
+
+    @Override
+    public void error(Supplier<CharSequence> messageSupplier) {
+      if (this.errorEnabled) {
+        error(messageSupplier.get());
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+
+/**
+ * Expression evaluator that answers with results computed in advance by another evaluator. Rules that are executed in
+ * the background use it, so they do not access Maven's evaluator after the mojo has returned. The expressions in the
+ * POM file are the only ones that the rules evaluate, apart from the session.
+ */
+final class CapturedExpressionEvaluator implements ExpressionEvaluator {
+
+  private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\$\\{.*?}");
+  private static final String SESSION_EXPRESSION = "${session}";
+
+  private final Map<String, Object> values;
+  private final Map<String, ExpressionEvaluationException> failures;
+  private final File baseDirectory;
+
+  private CapturedExpressionEvaluator(File baseDirectory) {
+    this.values = new HashMap<>();
+    this.failures = new HashMap<>();
+    this.baseDirectory = baseDirectory;
+  }
+
+  /**
+   * Evaluates the session and all expressions in the given POM file with the given evaluator.
+   *
+   * @param pomFile The POM file.
+   * @param helper The evaluator of the mojo.
+   * @return The captured evaluator.
+   */
+  static CapturedExpressionEvaluator capture(File pomFile, ExpressionEvaluator helper) {
+    CapturedExpressionEvaluator evaluator = new CapturedExpressionEvaluator(pomFile != null ? pomFile.getParentFile() : null);
+    evaluator.evaluate(SESSION_EXPRESSION, helper);
+
+    if (pomFile != null) {
+      try {
+        Matcher matcher = EXPRESSION_PATTERN.matcher(new String(Files.readAllBytes(pomFile.toPath()), StandardCharsets.UTF_8));
+        while (matcher.find()) {
+          evaluator.evaluate(matcher.group(), helper);
+        }
+      } catch (IOException e) {
+        // The rule reports the unreadable POM file when it is executed.
+      }
+    }
+
+    return evaluator;
+  }
+
+  private void evaluate(String expression, ExpressionEvaluator helper) {
+    if (this.values.containsKey(expression) || this.failures.containsKey(expression)) {
+      return;
+    }
+
+    try {
+      this.values.put(expression, helper.evaluate(expression));
+    } catch (ExpressionEvaluationException e) {
+      this.failures.put(expression, e);
+    }
+  }
+
+  @Override
+  public Object evaluate(String expression) throws ExpressionEvaluationException {
+    ExpressionEvaluationException failure = this.failures.get(expression);
+    if (failure != null) {
+      throw failure;
+    }
+    if (!this.values.containsKey(expression)) {
+      throw new ExpressionEvaluationException("Expression " + expression + " has not been captured");
+    }
+
+    return this.values.get(expression);
+  }
+
+  @Override
+  public File alignToBaseDirectory(File file) {
+    if (file == null || file.isAbsolute() || this.baseDirectory == null) {
+      return file;
+    }
+
+    return new File(this.baseDirectory, file.getPath());
+  }
+}
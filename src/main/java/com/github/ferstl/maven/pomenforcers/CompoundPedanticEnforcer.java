@@ -22,6 +22,8 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.metrics.EventContext;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
@@ -40,6 +42,7 @@ import com.google.common.collect.Sets;
  *         &lt;pomSectionPriorities&gt;groupId,artifactId,version,packaging&lt;/pomSectionPriorities&gt;
  *         &lt;!-- MODULE_ORDER configuration --&gt;
  *         &lt;moduleOrderIgnores;&gt;dist-deb,dist-rpm&lt;/moduleOrderIgnores&gt;
+ *         &lt;moduleOrderNumeric&gt;true&lt;/moduleOrderNumeric&gt;
  *         &lt;!-- DEPENDENCY_ORDER configuration --&gt;
  *         &lt;dependenciesOrderBy&gt;scope,groupId,artifactId&lt;/dependenciesOrderBy&gt;
  *         &lt;dependenciesScopePriorities&gt;compile,runtime,provided&lt;/dependenciesScopePriorities&gt;
@@ -116,6 +119,14 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
    */
   private String moduleOrderIgnores;
 
+  /**
+   * See {@link PedanticModuleOrderEnforcer#setNumericOrder(boolean)}.
+   *
+   * @configParam
+   * @since 2.4.0
+   */
+  private Boolean moduleOrderNumeric;
+
   /**
    * See {@link PedanticDependencyOrderEnforcer#setOrderBy(String)}.
    *
@@ -452,6 +463,15 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
    */
   private Boolean checkPluginManagementElements;
 
+  /**
+   * See {@link PedanticDependencyOrderEnforcer#setReportMinimalMoves(boolean)}. Applies to the dependency order, the
+   * dependency management order and the plugin management order.
+   *
+   * @configParam
+   * @since 2.4.0
+   */
+  private Boolean reportMinimalMoves;
+
   /**
    * Collection of enforcers to execute.
    */
@@ -485,31 +505,70 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
     report.useLargeTitle();
 
     List<ErrorReport> ruleErrors = new ArrayList<>();
+    List<PedanticEnforcerRule> cancelledRules = new ArrayList<>();
     for (PedanticEnforcerRule pedanticEnforcer : this.enforcers) {
-      AbstractPedanticEnforcer rule = pedanticEnforcer.createEnforcerRule(getMavenProject(), getHelper());
-      rule.initialize(getPom(), getProjectModel());
-      rule.accept(this.propertyInitializer);
+      // Don't even create the rule if the POM does not contain anything to check.
+      if (!pedanticEnforcer.isApplicable(getContentSections())) {
+        continue;
+      }
 
-      ErrorReport ruleReport = new ErrorReport(rule.getDescription());
-      rule.doEnforce(ruleReport);
+      ErrorReport ruleReport;
+      try (EventContext context = EnforcerEvents.context(getMavenProject().getId(), pedanticEnforcer.name())) {
+        ruleReport = getExecution().run(pedanticEnforcer, true, ruleErrorReport -> {
+          AbstractPedanticEnforcer rule = pedanticEnforcer.createEnforcerRule(getMavenProject(), getHelper());
+          rule.initialize(getPom(), getProjectModel());
+          rule.accept(this.propertyInitializer);
+          rule.doEnforce(ruleErrorReport);
+        }, getLog());
+      }
 
-      if (ruleReport.hasErrors()) {
+      if (ruleReport.isCancelled()) {
+        cancelledRules.add(pedanticEnforcer);
+      } else if (ruleReport.hasErrors()) {
         ruleErrors.add(ruleReport);
       }
     }
-    collectErrors(report, ruleErrors);
+    collectErrors(report, ruleErrors, cancelledRules);
   }
 
-  private void collectErrors(ErrorReport compoundReport, List<ErrorReport> ruleErrors) {
+  /**
+   * The time budget applies to each configured rule, see {@link #doEnforce(ErrorReport)}.
+   */
+  @Override
+  boolean hasTimeBudget() {
+    return false;
+  }
+
+  /**
+   * Adds the errors of the executed rules and the list of cancelled rules to the report of this rule.
+   */
+  void collectErrors(ErrorReport compoundReport, List<ErrorReport> ruleErrors, List<PedanticEnforcerRule> cancelledRules) {
+    if (!ruleErrors.isEmpty() || !cancelledRules.isEmpty()) {
+      compoundReport.useLargeTitle();
+    }
     if (!ruleErrors.isEmpty()) {
       compoundReport
-          .useLargeTitle()
           .addLine("Please fix these problems:")
           .emptyLine();
       for (ErrorReport ruleError : ruleErrors) {
-        compoundReport.addLine(ruleError.toString()).emptyLine().emptyLine();
+        compoundReport.addLine(super.deduplicate(ruleError)).emptyLine().emptyLine();
       }
     }
+    // Cancelled rules are reported even without other errors, so they are not skipped silently.
+    if (!cancelledRules.isEmpty()) {
+      compoundReport.addLine("These rules have not been checked because they exceeded their time budget:")
+          .addLine(ErrorReport.toList(cancelledRules, PedanticEnforcerRule::name))
+          .markCancelled();
+    }
+  }
+
+
+  /**
+   * The compound enforcer deduplicates the reports of the single rules, see {@link #doEnforce(ErrorReport)}.
+   */
+  @Override
+  ErrorReport deduplicate(ErrorReport report) {
+    return report;
   }
 
   private class PropertyInitializationVisitor implements PedanticEnforcerVisitor {
@@ -526,6 +585,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.moduleOrderIgnores)) {
         enforcer.setIgnoredModules(CompoundPedanticEnforcer.this.moduleOrderIgnores);
       }
+      if (CompoundPedanticEnforcer.this.moduleOrderNumeric != null) {
+        enforcer.setNumericOrder(CompoundPedanticEnforcer.this.moduleOrderNumeric);
+      }
     }
 
     @Override
@@ -542,6 +604,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.dependencyManagementScopePriorities)) {
         enforcer.setScopePriorities(CompoundPedanticEnforcer.this.dependencyManagementScopePriorities);
       }
+      if (CompoundPedanticEnforcer.this.reportMinimalMoves != null) {
+        enforcer.setReportMinimalMoves(CompoundPedanticEnforcer.this.reportMinimalMoves);
+      }
     }
 
     @Override
@@ -568,6 +633,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.dependenciesScopePriorities)) {
         enforcer.setScopePriorities(CompoundPedanticEnforcer.this.dependenciesScopePriorities);
       }
+      if (CompoundPedanticEnforcer.this.reportMinimalMoves != null) {
+        enforcer.setReportMinimalMoves(CompoundPedanticEnforcer.this.reportMinimalMoves);
+      }
     }
 
     @Override
@@ -628,6 +696,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.pluginManagementArtifactIdPriorities)) {
         enforcer.setArtifactIdPriorities(CompoundPedanticEnforcer.this.pluginManagementArtifactIdPriorities);
       }
+      if (CompoundPedanticEnforcer.this.reportMinimalMoves != null) {
+        enforcer.setReportMinimalMoves(CompoundPedanticEnforcer.this.reportMinimalMoves);
+      }
     }
 
     @Override
@@ -15,20 +15,31 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+import com.github.ferstl.maven.pomenforcers.metrics.PhaseEvent;
+import com.github.ferstl.maven.pomenforcers.priority.MinimalMoves;
+import com.github.ferstl.maven.pomenforcers.priority.MinimalMoves.Move;
 import com.github.ferstl.maven.pomenforcers.util.SideBySideDiffUtil;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import com.google.common.collect.Collections2;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import static com.google.common.base.Functions.toStringFunction;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 
 public class ErrorReport {
 
   private static final String LIST_ITEM = "- ";
+  private static final int DIFF_CONTEXT = 2;
   private static final String LINE_SEPARATOR = System.getProperty("line.separator", "\n");
   private static final Joiner LINE_JOINER = Joiner.on(LINE_SEPARATOR);
   private static final Joiner LIST_JOINER = Joiner.on(LINE_SEPARATOR + LIST_ITEM);
@@ -37,6 +48,7 @@ public class ErrorReport {
   private final Collection<Object> lines;
 
   private boolean useLargeTitle;
+  private boolean cancelled;
 
   public static <T> String toList(Collection<T> collection) {
     return toList(collection, Function.identity());
@@ -47,7 +59,11 @@ public class ErrorReport {
   }
 
   public ErrorReport(PedanticEnforcerRule rule) {
-    this.title = rule.name() + ": " + rule.getSlogan();
+    this(rule.name() + ": " + rule.getSlogan());
+  }
+
+  private ErrorReport(String title) {
+    this.title = title;
     this.lines = new LinkedList<>();
   }
 
@@ -62,8 +78,10 @@ public class ErrorReport {
   }
 
   public ErrorReport addDiff(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle) {
-    String diff = SideBySideDiffUtil.diff(actual, required, leftTitle, rightTitle);
-    this.lines.add(diff);
+    // Rendered right away, so the report does not retain the compared elements.
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.DIFF).withElements(actual.size() + required.size())) {
+      this.lines.add(SideBySideDiffUtil.diff(actual, required, leftTitle, rightTitle));
+    }
     return this;
   }
 
@@ -78,6 +96,51 @@ public class ErrorReport {
     return addDiff(actual, required, leftTitle, rightTitle, toStringFunction());
   }
 
+  /**
+   * Adds a diff of a region of the actual elements. The elements before and after the region are at their required
+   * position. They are omitted, except for a few lines of context.
+   *
+   * @param actual The actual elements.
+   * @param from Start of the region (inclusive).
+   * @param to End of the region (exclusive).
+   * @param requiredRegion The elements of the region in the required order.
+   * @param leftTitle Title of the actual elements.
+   * @param rightTitle Title of the required elements.
+   * @return This report.
+   */
+  public <T> ErrorReport addRegionDiffUsingToString(List<T> actual, int from, int to, List<T> requiredRegion, String leftTitle, String rightTitle) {
+    int contextFrom = Math.max(0, from - DIFF_CONTEXT);
+    int contextTo = Math.min(actual.size(), to + DIFF_CONTEXT);
+    List<T> required = new ArrayList<>(contextTo - contextFrom);
+    required.addAll(actual.subList(contextFrom, from));
+    required.addAll(requiredRegion);
+    required.addAll(actual.subList(to, contextTo));
+
+    if (contextFrom > 0) {
+      formatLine("(%d leading entries in the required order omitted)", contextFrom);
+    }
+    addDiffUsingToString(actual.subList(contextFrom, contextTo), required, leftTitle, rightTitle);
+    if (contextTo < actual.size()) {
+      formatLine("(%d trailing entries in the required order omitted)", actual.size() - contextTo);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the minimal set of moves that brings the actual elements into the required order. Positions are 1-based.
+   *
+   * @param moves The moves.
+   * @return This report.
+   */
+  public <T> ErrorReport addMinimalMoves(MinimalMoves<T> moves) {
+    formatLine("%d of %d entries are out of order. Move them as follows:", moves.getMoves().size(), moves.getSize());
+    for (Move<T> move : moves.getMoves()) {
+      String location = move.getPredecessor() == null ? "first entry" : "after " + move.getPredecessor();
+      formatLine("%s%s: position %d -> %d (%s)", LIST_ITEM, move.getElement(), move.getSource() + 1, move.getTarget() + 1, location);
+    }
+    return this;
+  }
+
   public ErrorReport formatLine(String line, Object... params) {
     this.lines.add(String.format(line, params));
     return this;
@@ -88,15 +151,65 @@ public class ErrorReport {
     return this;
   }
 
+  /**
+   * Marks this report as incomplete because a rule has been cancelled after it exceeded its time budget. A cancelled
+   * report does not have any errors of the cancelled rule.
+   *
+   * @return This report.
+   */
+  public ErrorReport markCancelled() {
+    this.cancelled = true;
+    return this;
+  }
+
+  public boolean isCancelled() {
+    return this.cancelled;
+  }
+
   public boolean hasErrors() {
     return !this.lines.isEmpty();
   }
 
+  /**
+   * Creates a fingerprint of the content of this report. Reports with the same content have the same fingerprint.
+   *
+   * @return The fingerprint of this report.
+   */
+  public String getFingerprint() {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(this.title, UTF_8);
+    for (Object line : this.lines) {
+      hasher.putByte((byte) 0);
+      if (line instanceof ErrorReport) {
+        hasher.putString(((ErrorReport) line).getFingerprint(), UTF_8);
+      } else {
+        hasher.putString(String.valueOf(line), UTF_8);
+      }
+    }
+
+    return hasher.hash().toString().substring(0, 16);
+  }
+
+  /**
+   * Creates a short report with the same title as this report, which refers to another occurrence of the same
+   * violation.
+   *
+   * @param location Location where the same violation has been reported.
+   * @return The short report.
+   */
+  public ErrorReport referenceTo(String location) {
+    ErrorReport reference = new ErrorReport(this.title);
+    reference.useLargeTitle = this.useLargeTitle;
+    return reference.formatLine("Same violation as reported for %s (fingerprint %s).", location, getFingerprint());
+  }
+
   @Override
   public String toString() {
-    return LINE_JOINER.join(
-        formatTitle(),
-        LINE_JOINER.join(this.lines));
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.REPORT).withElements(this.lines.size())) {
+      return LINE_JOINER.join(
+          formatTitle(),
+          LINE_JOINER.join(this.lines));
+    }
   }
 
   private String formatTitle() {
@@ -106,5 +219,4 @@ public class ErrorReport {
     }
     return LINE_JOINER.join("" + this.title, Strings.repeat("=", this.title.length()), "");
   }
-
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.MetricsExportFormat;
+import com.github.ferstl.maven.pomenforcers.metrics.MetricsRow;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Collects the metrics of all pedantic enforcer rules that are configured with <code>metricsExport</code> and writes
+ * them to the configured file when the Maven session ends, see {@link SessionEnd}. The file is also written if the
+ * build fails early or if the rules are not executed in every project of the reactor. The metrics are written to a
+ * temporary file in the directory of the export file first, which is then moved to its final location. So readers
+ * never see a partially written file.
+ * The rows are sorted in reactor order, which makes the file independent of the number of build threads. See
+ * {@link MetricsExportFormat} for the schema.
+ */
+final class MetricsExport {
+
+  private static final SessionScope<MetricsExport> SCOPE = new SessionScope<>(MetricsExport::new);
+
+  private final MavenSession session;
+  private final Queue<MetricsRow> rows;
+  private volatile String exportFile;
+  private volatile EnforcerLogger log;
+
+  static MetricsExport forSession(MavenSession session) {
+    return SCOPE.get(session);
+  }
+
+  private MetricsExport(MavenSession session) {
+    this.session = session;
+    this.rows = new ConcurrentLinkedQueue<>();
+    SessionEnd.forSession(session).register(this::writeExport);
+  }
+
+  /**
+   * Adds the metrics of a rule execution.
+   *
+   * @param project The checked project.
+   * @param rule The executed rule.
+   * @param executionMetrics Metrics of the rule execution.
+   * @param exportFile The export file. Relative paths are resolved against the execution root directory.
+   * @param log Logger.
+   */
+  void add(MavenProject project, PedanticEnforcerRule rule, ExecutionMetrics executionMetrics, String exportFile, EnforcerLogger log) {
+    this.exportFile = exportFile;
+    this.log = log;
+    this.rows.addAll(MetricsRow.of(project.getId(), rule.name(), executionMetrics));
+  }
+
+  /**
+   * Writes the export file. Called when the session ends.
+   */
+  void writeExport() {
+    String exportFile = this.exportFile;
+    EnforcerLogger log = this.log;
+    if (exportFile == null || log == null) {
+      return;
+    }
+
+    Path file = resolve(exportFile);
+    try {
+      write(file, MetricsExportFormat.forFileName(file.getFileName().toString()));
+      log.info("Pedantic POM enforcers metrics written to " + file);
+    } catch (IOException e) {
+      log.warn("Pedantic POM enforcers metrics could not be written to " + file + ": " + e.getMessage());
+    }
+  }
+
+  private Path resolve(String exportFile) {
+    Path file = Paths.get(exportFile);
+    String rootDirectory = this.session.getExecutionRootDirectory();
+    return rootDirectory != null ? Paths.get(rootDirectory).resolve(file) : file.toAbsolutePath();
+  }
+
+  private void write(Path file, MetricsExportFormat format) throws IOException {
+    Map<String, Integer> reactorOrder = new HashMap<>();
+    for (MavenProject project : this.session.getProjects()) {
+      reactorOrder.putIfAbsent(project.getId(), reactorOrder.size());
+    }
+    List<MetricsRow> sortedRows = new ArrayList<>(this.rows);
+    sortedRows.sort(Comparator.comparingInt(row -> reactorOrder.getOrDefault(row.getModule(), Integer.MAX_VALUE)));
+
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+        format.write(sortedRows, writer);
+      }
+      try {
+        Files.move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, file, REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+}
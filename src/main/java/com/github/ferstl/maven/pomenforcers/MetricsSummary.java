@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import com.github.ferstl.maven.pomenforcers.metrics.AggregatedMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+
+/**
+ * Collects the metrics of all pedantic enforcer rules that are configured with <code>metricsSummary</code> and logs
+ * them in a summary when the Maven session ends, see {@link SessionEnd}. The summary is also logged if the build fails
+ * early or if the rules are not executed in every project of the reactor.
+ */
+final class MetricsSummary {
+
+  private static final SessionScope<MetricsSummary> SCOPE = new SessionScope<>(MetricsSummary::new);
+
+  private final MavenSession session;
+  private final Set<String> checkedProjects;
+  private final AggregatedMetrics metrics;
+  private volatile EnforcerLogger log;
+
+  static MetricsSummary forSession(MavenSession session) {
+    return SCOPE.get(session);
+  }
+
+  private MetricsSummary(MavenSession session) {
+    this.session = session;
+    this.checkedProjects = ConcurrentHashMap.newKeySet();
+    this.metrics = new AggregatedMetrics();
+    SessionEnd.forSession(session).register(this::writeSummary);
+  }
+
+  /**
+   * Adds the metrics of a rule execution.
+   *
+   * @param project The checked project.
+   * @param executionMetrics Metrics of the rule execution.
+   * @param log Logger for the summary.
+   */
+  void add(MavenProject project, ExecutionMetrics executionMetrics, EnforcerLogger log) {
+    this.log = log;
+    this.metrics.add(executionMetrics);
+    if (this.checkedProjects.add(project.getId())) {
+      this.metrics.recordPomSize(executionMetrics.getPomSize());
+    }
+  }
+
+  /**
+   * Logs the summary. Called when the session ends.
+   */
+  void writeSummary() {
+    EnforcerLogger log = this.log;
+    if (log == null) {
+      return;
+    }
+
+    int reactorSize = this.session.getProjects().size();
+    int checked = this.checkedProjects.size();
+    String projects = checked < reactorSize ? checked + " of " + reactorSize + " projects" : checked + " projects";
+    log.info("Pedantic POM enforcers metrics for " + projects + ":\n" + this.metrics.toTable());
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+/**
+ * Sort key of a module name that compares numbers by their value and paths segment by segment. The module name is
+ * split into path segments and each segment into text and number tokens once, when the key is created. So
+ * <code>module-9</code> is ordered before <code>module-10</code> and <code>core/api</code> is ordered before
+ * <code>core-impl</code>, because the segment <code>core</code> precedes <code>core-impl</code>. Module names that
+ * only differ in leading zeros or path separators are ordered by their plain string value. The tokens are stored as
+ * offsets into the module name, so a key only allocates a single array.
+ */
+final class ModuleNameKey implements Comparable<ModuleNameKey> {
+
+  private static final int SEPARATOR = 0;
+  private static final int NUMBER = 1;
+  private static final int TEXT = 2;
+
+  private final String name;
+  /**
+   * Kind, start and end of each token. The start of a number token skips its leading zeros.
+   */
+  private final int[] tokens;
+
+  private ModuleNameKey(String name, int[] tokens) {
+    this.name = name;
+    this.tokens = tokens;
+  }
+
+  static ModuleNameKey of(String name) {
+    int[] tokens = new int[3 * tokenize(name, null)];
+    tokenize(name, tokens);
+    return new ModuleNameKey(name, tokens);
+  }
+
+  String getName() {
+    return this.name;
+  }
+
+  @Override
+  public int compareTo(ModuleNameKey other) {
+    int length = Math.min(this.tokens.length, other.tokens.length);
+    for (int i = 0; i < length; i += 3) {
+      int kind = this.tokens[i];
+      int result = Integer.compare(kind, other.tokens[i]);
+      if (result != 0) {
+        return result;
+      }
+
+      int start = this.tokens[i + 1];
+      int end = this.tokens[i + 2];
+      int otherStart = other.tokens[i + 1];
+      int otherEnd = other.tokens[i + 2];
+      if (kind == NUMBER && end - start != otherEnd - otherStart) {
+        return Integer.compare(end - start, otherEnd - otherStart);
+      }
+      result = compareRegions(this.name, start, end, other.name, otherStart, otherEnd);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    int result = Integer.compare(this.tokens.length, other.tokens.length);
+    return result != 0 ? result : this.name.compareTo(other.name);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ModuleNameKey && this.name.equals(((ModuleNameKey) obj).name);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.name.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+
+  /**
+   * Splits the given name into tokens.
+   *
+   * @param name The module name.
+   * @param tokens Array to store the tokens in or <code>null</code> to only count them.
+   * @return The number of tokens.
+   */
+  private static int tokenize(String name, int[] tokens) {
+    int count = 0;
+    int length = name.length();
+    int i = 0;
+    while (i < length) {
+      char c = name.charAt(i);
+      int kind;
+      int start = i;
+      if (isSeparator(c)) {
+        while (i < length && isSeparator(name.charAt(i))) {
+          i++;
+        }
+        // Leading and trailing separators don't start a new segment.
+        if (start == 0 || i == length) {
+          continue;
+        }
+        kind = SEPARATOR;
+      } else if (isDigit(c)) {
+        while (i < length && name.charAt(i) == '0') {
+          i++;
+        }
+        start = i;
+        while (i < length && isDigit(name.charAt(i))) {
+          i++;
+        }
+        kind = NUMBER;
+      } else {
+        while (i < length && !isDigit(name.charAt(i)) && !isSeparator(name.charAt(i))) {
+          i++;
+        }
+        kind = TEXT;
+      }
+
+      if (tokens != null) {
+        tokens[3 * count] = kind;
+        tokens[3 * count + 1] = start;
+        tokens[3 * count + 2] = i;
+      }
+      count++;
+    }
+    return count;
+  }
+
+  private static int compareRegions(String left, int leftStart, int leftEnd, String right, int rightStart, int rightEnd) {
+    int length = Math.min(leftEnd - leftStart, rightEnd - rightStart);
+    for (int i = 0; i < length; i++) {
+      int result = Character.compare(left.charAt(leftStart + i), right.charAt(rightStart + i));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return Integer.compare(leftEnd - leftStart, rightEnd - rightStart);
+  }
+
+  private static boolean isSeparator(char c) {
+    return c == '/' || c == '\\';
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -30,12 +30,13 @@ import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
 import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.collect.ImmutableSet;
 import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ELEMENT;
 import static com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils.splitAndAddToCollection;
 import static com.google.common.collect.Sets.newLinkedHashSet;
-import static java.util.Arrays.asList;
 
 /**
  * This enforcer makes sure that elements in the &lt;dependencyManagement&gt; and &lt;dependencies&gt; sections are ordered.
@@ -59,7 +60,7 @@ import static java.util.Arrays.asList;
 @Named("dependencyElements")
 public class PedanticDependencyElementEnforcer extends AbstractPedanticEnforcer {
 
-  private static final Set<String> DEFAULT_ORDER = newLinkedHashSet(asList("groupId", "artifactId", "version", "classifier", "type", "scope", "systemPath", "optional", "exclusions"));
+  private static final Set<String> DEFAULT_ORDER = ImmutableSet.of("groupId", "artifactId", "version", "classifier", "type", "scope", "systemPath", "optional", "exclusions");
 
   private PriorityOrdering<String, String> elementOrdering;
   private boolean checkDependencies;
@@ -136,6 +137,7 @@ public class PedanticDependencyElementEnforcer extends AbstractPedanticEnforcer
 
     List<Map<String, String>> unorderedNodes = new ArrayList<>();
     for (int i = 0; i < nodes.getLength(); i++) {
+      ExecutionMetrics.checkTimeBudget();
       Node node = nodes.item(i);
       NodeList nodeElements = node.getChildNodes();
 
@@ -162,7 +164,7 @@ public class PedanticDependencyElementEnforcer extends AbstractPedanticEnforcer
   }
 
   private boolean isOrdered(Collection<String> keys) {
-    return this.elementOrdering.isOrdered(keys);
+    return isOrdered(this.elementOrdering, keys);
   }
 
   private void report(String context, ErrorReport errorReport, List<Map<String, String>> unorderedNodes) {
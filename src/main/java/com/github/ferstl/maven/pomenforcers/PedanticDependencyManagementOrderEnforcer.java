@@ -17,6 +17,7 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.model.Dependency;
@@ -24,6 +25,7 @@ import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolations;
 
 
 /**
@@ -31,6 +33,8 @@ import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
  * ordered. The ordering can be defined by any combination of <code>scope</code>,
  * <code>groupId</code> and <code>artifactId</code>. Each of these attributes
  * may be given a priority.
+ * Since version 2.4.0, the diff of a wrong order only shows the entries that are out of
+ * order, with two entries of context, instead of all entries.
  * <pre>
  * ### Example
  *     &lt;rules&gt;
@@ -84,10 +88,9 @@ public class PedanticDependencyManagementOrderEnforcer extends AbstractPedanticD
   }
 
   @Override
-  protected void reportError(ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies) {
-
+  protected void reportError(ErrorReport report, List<DependencyModel> resolvedDependencies, OrderViolations violations) {
     report.addLine("Your dependency management has to be ordered this way:")
-        .emptyLine()
-        .addDiffUsingToString(resolvedDependencies, sortedDependencies, "Actual Order", "Required Order");
+        .emptyLine();
+    addOrderViolationDiff(report, getArtifactOrdering(), resolvedDependencies, violations);
   }
 }
@@ -16,18 +16,22 @@
 package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collection;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolations;
 
 
 /**
  * This enforcer makes sure that all artifacts in your dependencies section are
  * ordered. The ordering can be defined by any combination of <code>scope</code>, <code>groupId</code>
  * and <code>artifactId</code>. Each of these attributes may be given a priority.
+ * Since version 2.4.0, the diff of a wrong order only shows the entries that are out of
+ * order, with two entries of context, instead of all entries.
  * <pre>
  * ### Example
  *     &lt;rules&gt;
@@ -76,10 +80,9 @@ public class PedanticDependencyOrderEnforcer extends AbstractPedanticDependencyO
   }
 
   @Override
-  protected void reportError(ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies) {
-
+  protected void reportError(ErrorReport report, List<DependencyModel> resolvedDependencies, OrderViolations violations) {
     report.addLine("Your dependencies have to be sorted this way:")
-        .emptyLine()
-        .addDiffUsingToString(resolvedDependencies, sortedDependencies, "Actual Order", "Required Order");
+        .emptyLine();
+    addOrderViolationDiff(report, getArtifactOrdering(), resolvedDependencies, violations);
   }
 }
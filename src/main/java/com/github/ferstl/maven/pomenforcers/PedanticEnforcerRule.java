@@ -15,8 +15,17 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.model.ContentSection;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.DEPENDENCIES;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.DEPENDENCY_MANAGEMENT;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.MODULES;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.PLUGINS;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.PLUGIN_MANAGEMENT;
 
 /**
  * Each pedantic enforcer rule is identified by an ID. These IDs can be used within the
@@ -47,7 +56,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticModuleOrderEnforcer
    */
-  MODULE_ORDER("One does not simply declare modules!") {
+  MODULE_ORDER("One does not simply declare modules!", MODULES) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticModuleOrderEnforcer(project, helper);
@@ -56,7 +65,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticDependencyManagementOrderEnforcer
    */
-  DEPENDENCY_MANAGEMENT_ORDER("One does not simply declare dependency management!") {
+  DEPENDENCY_MANAGEMENT_ORDER("One does not simply declare dependency management!", DEPENDENCY_MANAGEMENT) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticDependencyManagementOrderEnforcer(project, helper);
@@ -65,7 +74,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticDependencyManagementLocationEnforcer
    */
-  DEPENDENCY_MANAGEMENT_LOCATION("One does not simply declare dependency management!") {
+  DEPENDENCY_MANAGEMENT_LOCATION("One does not simply declare dependency management!", DEPENDENCY_MANAGEMENT) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticDependencyManagementLocationEnforcer(project, helper);
@@ -74,7 +83,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticDependencyOrderEnforcer
    */
-  DEPENDENCY_ORDER("One does not simply declare dependencies!") {
+  DEPENDENCY_ORDER("One does not simply declare dependencies!", DEPENDENCIES) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticDependencyOrderEnforcer(project, helper);
@@ -83,7 +92,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticDependencyConfigurationEnforcer
    */
-  DEPENDENCY_CONFIGURATION("One does not simply configure dependencies!") {
+  DEPENDENCY_CONFIGURATION("One does not simply configure dependencies!", DEPENDENCIES) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticDependencyConfigurationEnforcer(project, helper);
@@ -93,7 +102,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticDependencyElementEnforcer
    */
-  DEPENDENCY_ELEMENT("One does not simply declare a dependency!") {
+  DEPENDENCY_ELEMENT("One does not simply declare a dependency!", DEPENDENCY_MANAGEMENT, DEPENDENCIES) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticDependencyElementEnforcer(project, helper);
@@ -112,7 +121,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticPluginManagementOrderEnforcer
    */
-  PLUGIN_MANAGEMENT_ORDER("One does not simply declare plugin management!") {
+  PLUGIN_MANAGEMENT_ORDER("One does not simply declare plugin management!", PLUGIN_MANAGEMENT) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticPluginManagementOrderEnforcer(project, helper);
@@ -121,7 +130,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticPluginConfigurationEnforcer
    */
-  PLUGIN_CONFIGURATION("One does not simply configure plugins!") {
+  PLUGIN_CONFIGURATION("One does not simply configure plugins!", PLUGINS) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticPluginConfigurationEnforcer(project, helper);
@@ -131,7 +140,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticPluginElementEnforcer
    */
-  PLUGIN_ELEMENT("One does not simple declare a plugin!") {
+  PLUGIN_ELEMENT("One does not simple declare a plugin!", PLUGIN_MANAGEMENT, PLUGINS) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticPluginElementEnforcer(project, helper);
@@ -140,7 +149,7 @@ public enum PedanticEnforcerRule {
   /**
    * @see PedanticPluginManagementLocationEnforcer
    */
-  PLUGIN_MANAGEMENT_LOCATION("One does not simply declare plugin management!") {
+  PLUGIN_MANAGEMENT_LOCATION("One does not simply declare plugin management!", PLUGIN_MANAGEMENT) {
     @Override
     public AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper) {
       return new PedanticPluginManagementLocationEnforcer(project, helper);
@@ -149,13 +158,32 @@ public enum PedanticEnforcerRule {
 
   private final String slogan;
 
-  PedanticEnforcerRule(String slogan) {
+  /**
+   * The rule has nothing to check if none of these sections is present. An empty set means that the
+   * rule always has to be executed.
+   */
+  private final Set<ContentSection> requiredSections;
+
+  PedanticEnforcerRule(String slogan, ContentSection... requiredSections) {
     this.slogan = slogan;
+    this.requiredSections = requiredSections.length > 0
+        ? EnumSet.of(requiredSections[0], requiredSections)
+        : EnumSet.noneOf(ContentSection.class);
   }
 
   public String getSlogan() {
     return this.slogan;
   }
 
+  /**
+   * Indicates whether this rule has anything to check in a POM with the given sections.
+   *
+   * @param presentSections Non-empty sections of the POM (see {@link ContentSection#scan}).
+   * @return <code>true</code> if the rule needs to be executed, <code>false</code> else.
+   */
+  public boolean isApplicable(Set<ContentSection> presentSections) {
+    return this.requiredSections.isEmpty() || !Collections.disjoint(this.requiredSections, presentSections);
+  }
+
   public abstract AbstractPedanticEnforcer createEnforcerRule(final MavenProject project, final ExpressionEvaluator helper);
 }
@@ -15,7 +15,6 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -24,6 +23,9 @@ import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 import static com.github.ferstl.maven.pomenforcers.ErrorReport.toList;
@@ -32,13 +34,16 @@ import static com.github.ferstl.maven.pomenforcers.ErrorReport.toList;
 /**
  * This enforcer makes sure that your <code>modules</code> section is sorted
  * alphabetically. Modules that should occur at a specific position in the
- * <code>&lt;modules&gt;</code> section can be ignored.
+ * <code>&lt;modules&gt;</code> section can be ignored. Optionally, numbers in
+ * the module names are compared by their value.
  * <pre>
  * ### Example
  *     &lt;rules&gt;
  *       &lt;moduleOrder implementation=&quot;com.github.ferstl.maven.pomenforcers.PedanticModuleOrderEnforcer&quot;&gt;
  *         &lt;!-- These modules may occur at any place in the modules section --&gt;
  *         &lt;ignoredModules&gt;dist-deb,dist-rpm&lt;/ignoredModules&gt;
+ *         &lt;!-- Order module-9 before module-10 --&gt;
+ *         &lt;numericOrder&gt;true&lt;/numericOrder&gt;
  *        &lt;/moduleOrder&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -54,6 +59,8 @@ public class PedanticModuleOrderEnforcer extends AbstractPedanticEnforcer {
    */
   private final Set<String> ignoredModules;
 
+  private boolean numericOrder;
+
   @Inject
   public PedanticModuleOrderEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
     super(project, helper);
@@ -72,6 +79,20 @@ public class PedanticModuleOrderEnforcer extends AbstractPedanticEnforcer {
     CommaSeparatorUtils.splitAndAddToCollection(ignoredModules, this.ignoredModules);
   }
 
+  /**
+   * If set to <code>true</code>, numbers in module names are compared by their value and module paths are compared
+   * segment by segment. So <code>module-9</code> has to be declared before <code>module-10</code> and
+   * <code>core/api</code> before <code>core-impl</code>.
+   *
+   * @param numericOrder Compare numbers in module names by their value.
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  public void setNumericOrder(boolean numericOrder) {
+    this.numericOrder = numericOrder;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return PedanticEnforcerRule.MODULE_ORDER;
@@ -90,14 +111,22 @@ public class PedanticModuleOrderEnforcer extends AbstractPedanticEnforcer {
       return;
     }
 
-    // Remove all modules to be ignored.
-    List<String> declaredModules = new ArrayList<>(getProjectModel().getModules());
-    declaredModules.removeAll(this.ignoredModules);
+    // Skip all modules to be ignored without copying the declared modules.
+    List<String> declaredModules = getProjectModel().getModules();
+    Iterable<String> checkedModules = this.ignoredModules.isEmpty()
+        ? declaredModules
+        : Iterables.filter(declaredModules, module -> !this.ignoredModules.contains(module));
 
     // Enforce the module order
-    Ordering<String> moduleOrdering = Ordering.natural();
-    if (!moduleOrdering.isOrdered(declaredModules)) {
-      reportError(report, declaredModules, moduleOrdering.immutableSortedCopy(declaredModules));
+    if (this.numericOrder) {
+      // Tokenize each module name only once for checking and sorting
+      List<ModuleNameKey> moduleKeys = ImmutableList.copyOf(Iterables.transform(checkedModules, ModuleNameKey::of));
+      if (!isOrdered(Ordering.natural(), moduleKeys)) {
+        List<ModuleNameKey> sortedKeys = Ordering.natural().sortedCopy(moduleKeys);
+        reportError(report, Lists.transform(moduleKeys, ModuleNameKey::getName), Lists.transform(sortedKeys, ModuleNameKey::getName));
+      }
+    } else if (!isOrdered(Ordering.natural(), checkedModules)) {
+      reportError(report, ImmutableList.copyOf(checkedModules), Ordering.natural().immutableSortedCopy(checkedModules));
     }
   }
 
@@ -106,7 +135,8 @@ public class PedanticModuleOrderEnforcer extends AbstractPedanticEnforcer {
   }
 
   private void reportError(ErrorReport report, Collection<String> declaredModules, Collection<String> orderedModules) {
-    report.addLine("You have to sort your modules alphabetically:")
+    String order = this.numericOrder ? "alphabetically and numerically" : "alphabetically";
+    report.formatLine("You have to sort your modules %s:", order)
         .emptyLine()
         .addDiff(declaredModules, orderedModules, "Actual Order", "Required Order");
     if (!this.ignoredModules.isEmpty()) {
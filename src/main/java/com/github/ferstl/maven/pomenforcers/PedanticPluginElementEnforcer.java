@@ -30,12 +30,13 @@ import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
 import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.collect.ImmutableSet;
 import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_ELEMENT;
 import static com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils.splitAndAddToCollection;
 import static com.google.common.collect.Sets.newLinkedHashSet;
-import static java.util.Arrays.asList;
 
 /**
  * This enforcer makes sure that elements in the &lt;pluginManagement&gt; and &lt;plugins&gt; sections are ordered.
@@ -59,7 +60,7 @@ import static java.util.Arrays.asList;
 @Named("pluginElements")
 public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
 
-  private static final Set<String> DEFAULT_ORDER = newLinkedHashSet(asList("groupId", "artifactId", "version", "extensions", "inherited", "configuration", "dependencies", "executions"));
+  private static final Set<String> DEFAULT_ORDER = ImmutableSet.of("groupId", "artifactId", "version", "extensions", "inherited", "configuration", "dependencies", "executions");
 
   private PriorityOrdering<String, String> elementOrdering;
   private boolean checkPlugins;
@@ -104,7 +105,8 @@ public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
   }
 
   /**
-   * Check the &lt;pluginManagement&gt; section.
+   * Check the &lt;pluginManagement&gt; section. Versions before 2.4.0 did not check the plugins in this section at all,
+   * so upgrading may reveal violations in the &lt;pluginManagement&gt; section of existing POMs.
    *
    * @param checkPluginManagement <code>true</code> to check the &lt;pluginManagement&gt; section, <code>false</code> else.
    * @configParam
@@ -123,7 +125,7 @@ public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
   @Override
   protected void doEnforce(ErrorReport report) {
     if (this.checkPluginManagement) {
-      analyzeNodes("pluginManagement", "/project/build/pluginManagement/plugins/plugins", report);
+      analyzeNodes("pluginManagement", "/project/build/pluginManagement/plugins/plugin", report);
     }
 
     if (this.checkPlugins) {
@@ -136,6 +138,7 @@ public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
 
     List<Map<String, String>> unorderedNodes = new ArrayList<>();
     for (int i = 0; i < nodes.getLength(); i++) {
+      ExecutionMetrics.checkTimeBudget();
       Node node = nodes.item(i);
       NodeList nodeElements = node.getChildNodes();
 
@@ -162,7 +165,7 @@ public class PedanticPluginElementEnforcer extends AbstractPedanticEnforcer {
   }
 
   private boolean isOrdered(Collection<String> keys) {
-    return this.elementOrdering.isOrdered(keys);
+    return isOrdered(this.elementOrdering, keys);
   }
 
   private void report(String context, ErrorReport errorReport, List<Map<String, String>> unorderedNodes) {
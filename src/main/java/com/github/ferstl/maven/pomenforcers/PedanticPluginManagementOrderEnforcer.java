@@ -17,6 +17,7 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -27,8 +28,10 @@ import com.github.ferstl.maven.pomenforcers.model.PluginElement;
 import com.github.ferstl.maven.pomenforcers.model.PluginModel;
 import com.github.ferstl.maven.pomenforcers.model.functions.PluginMatcher;
 import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolations;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import com.google.common.collect.BiMap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import static com.github.ferstl.maven.pomenforcers.model.PluginElement.ARTIFACT_ID;
 import static com.github.ferstl.maven.pomenforcers.model.PluginElement.GROUP_ID;
@@ -38,6 +41,8 @@ import static com.github.ferstl.maven.pomenforcers.model.PluginElement.GROUP_ID;
  * This enforcer makes sure that all plugins in your plugin management section
  * are ordered. The ordering can be defined by any combination of groupId and
  * artifactId. Each of these attributes may be given a priority.
+ * Since version 2.4.0, the diff of a wrong order only shows the entries that are out of
+ * order, with two entries of context, instead of all entries.
  * <pre>
  * ### Example
  *     &lt;rules&gt;
@@ -59,6 +64,7 @@ import static com.github.ferstl.maven.pomenforcers.model.PluginElement.GROUP_ID;
 public class PedanticPluginManagementOrderEnforcer extends AbstractPedanticEnforcer {
 
   private final CompoundPriorityOrdering<PluginModel, String, PluginElement> pluginOrdering;
+  private boolean reportMinimalMoves;
 
   @Inject
   public PedanticPluginManagementOrderEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
@@ -114,6 +120,20 @@ public class PedanticPluginManagementOrderEnforcer extends AbstractPedanticEnfor
     this.pluginOrdering.setPriorities(PluginElement.ARTIFACT_ID, artifactIdPriorities);
   }
 
+  /**
+   * If set to <code>true</code>, a wrong order is reported as the minimal set of plugins that have to be moved,
+   * together with their positions in the required order, instead of a side-by-side diff of the managed plugins.
+   * The plugins that stay in place form the longest sequence of plugins that is already in order.
+   *
+   * @param reportMinimalMoves Report the minimal moves instead of a diff.
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  public void setReportMinimalMoves(boolean reportMinimalMoves) {
+    this.reportMinimalMoves = reportMinimalMoves;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return PedanticEnforcerRule.PLUGIN_MANAGEMENT_ORDER;
@@ -132,13 +152,16 @@ public class PedanticPluginManagementOrderEnforcer extends AbstractPedanticEnfor
     Collection<Plugin> managedPlugins = project.getPluginManagement().getPlugins();
     BiMap<PluginModel, PluginModel> matchedPlugins = matchPlugins(declaredManagedPlugins, managedPlugins);
 
-    Set<PluginModel> resolvedPlugins = matchedPlugins.keySet();
-    if (!this.pluginOrdering.isOrdered(resolvedPlugins)) {
-      Collection<PluginModel> sortedPlugins = this.pluginOrdering.immutableSortedCopy(resolvedPlugins);
-
-      report.addLine("Your plugin management has to be ordered this way:")
-          .emptyLine()
-          .addDiffUsingToString(resolvedPlugins, sortedPlugins, "Actual Order", "Required Order");
+    List<PluginModel> resolvedPlugins = ImmutableList.copyOf(matchedPlugins.keySet());
+    OrderViolations violations = findOrderViolations(this.pluginOrdering, resolvedPlugins);
+    if (!violations.isEmpty()) {
+      if (this.reportMinimalMoves) {
+        report.addMinimalMoves(findMinimalMoves(this.pluginOrdering, resolvedPlugins));
+      } else {
+        report.addLine("Your plugin management has to be ordered this way:")
+            .emptyLine();
+        addOrderViolationDiff(report, this.pluginOrdering, resolvedPlugins, violations);
+      }
     }
   }
 
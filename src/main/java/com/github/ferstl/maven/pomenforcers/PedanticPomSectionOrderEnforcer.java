@@ -26,6 +26,7 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 import com.github.ferstl.maven.pomenforcers.model.PomSection;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
@@ -92,6 +93,7 @@ public class PedanticPomSectionOrderEnforcer extends AbstractPedanticEnforcer {
     NodeList sectionNodes = docElement.getChildNodes();
     ArrayList<PomSection> pomSections = new ArrayList<>();
     for (int i = 0; i < sectionNodes.getLength(); i++) {
+      ExecutionMetrics.checkTimeBudget();
       Node node = sectionNodes.item(i);
       if (node.getNodeType() == Node.ELEMENT_NODE) {
         pomSections.add(PomSection.getBySectionName(node.getNodeName()));
@@ -101,7 +103,7 @@ public class PedanticPomSectionOrderEnforcer extends AbstractPedanticEnforcer {
     // The default ordering is the order of the PomSection enum.
     Ordering<PomSection> ordering = createPriorityOrdering(this.sectionPriorities);
 
-    if (!ordering.isOrdered(pomSections)) {
+    if (!isOrdered(ordering, pomSections)) {
       List<PomSection> sortedPomSections = ordering.immutableSortedCopy(pomSections);
 
       report.addLine("Your POM has to be organized this way:")
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics.RunningPhase;
+import com.github.ferstl.maven.pomenforcers.metrics.MetricsListeners;
+import com.github.ferstl.maven.pomenforcers.metrics.PhaseEvent;
+import com.github.ferstl.maven.pomenforcers.metrics.PhaseMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.TimeBudgetExceededException;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.base.Strings;
+
+/**
+ * Measures the execution of a pedantic enforcer rule in a Maven project. This class parses and binds the POM, runs
+ * the rules within their time budget and reports the metrics to the log, the {@link MetricsSummary} and the
+ * {@link MetricsExport}.
+ */
+final class RuleExecution {
+
+  private final MavenProject project;
+  private final ExecutionMetrics metrics;
+  private long timeBudgetMillis;
+  private boolean diagnostics;
+  private boolean metricsSummary;
+  private String metricsExport;
+
+  RuleExecution(MavenProject project) {
+    this.project = project;
+    this.metrics = new ExecutionMetrics(project.getId(), MetricsListeners.get());
+  }
+
+  ExecutionMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  void setDiagnostics(boolean diagnostics) {
+    this.diagnostics = diagnostics;
+    if (diagnostics) {
+      this.metrics.enableDiagnostics();
+    }
+  }
+
+  void setTimeBudget(long timeBudgetMillis, boolean cancelSlowRules) {
+    this.timeBudgetMillis = timeBudgetMillis;
+    if (timeBudgetMillis > 0) {
+      this.metrics.setTimeBudget(TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis), cancelSlowRules);
+    }
+  }
+
+  void setMetricsSummary(boolean metricsSummary) {
+    this.metricsSummary = metricsSummary;
+  }
+
+  void setMetricsExport(String metricsExport) {
+    this.metricsExport = metricsExport;
+  }
+
+  /**
+   * Parses the POM file of the Maven project.
+   *
+   * @return The POM document.
+   */
+  Document parse() {
+    try (RunningPhase phase = this.metrics.start(ExecutionMetrics.PARSE); PhaseEvent event = EnforcerEvents.begin(Phase.PARSE)) {
+      Document pom = XmlUtils.parseXml(this.project.getFile());
+      if (event.isRecording()) {
+        event.withElements(pom.getElementsByTagName("*").getLength());
+      }
+      return pom;
+    }
+  }
+
+  /**
+   * Binds the POM file of the Maven project to the project model and records the number of elements in the POM.
+   *
+   * @return The project model.
+   */
+  ProjectModel bind() {
+    ProjectModel model;
+    try (RunningPhase phase = this.metrics.start(ExecutionMetrics.BIND); PhaseEvent event = EnforcerEvents.begin(Phase.BIND)) {
+      model = XmlUtils.unmarshal(this.project.getFile(), ProjectModel.class);
+      if (event.isRecording()) {
+        event.withElements(model.getModules().size() + model.getManagedDependencies().size() + model.getDependencies().size()
+            + model.getManagedPlugins().size() + model.getPlugins().size());
+      }
+    }
+    this.metrics.recordElementCounts(model);
+    this.metrics.recordPomSize(this.project.getFile().length());
+    return model;
+  }
+
+  /**
+   * Runs a rule and records its violations. If the rule is subject to the time budget and is cancelled because it
+   * exceeded its budget, its partial results are discarded and an empty report that is
+   * {@link ErrorReport#isCancelled() marked as cancelled} is returned instead.
+   *
+   * @param rule The rule.
+   * @param timeBudget Whether the time budget applies to the rule.
+   * @param enforcer Enforces the rule and writes its violations to the given report.
+   * @param log Logger for time budget warnings. May be <code>null</code>.
+   * @return The report of the rule.
+   */
+  ErrorReport run(PedanticEnforcerRule rule, boolean timeBudget, Consumer<ErrorReport> enforcer, EnforcerLogger log) {
+    String ruleName = rule.name();
+    ErrorReport report = new ErrorReport(rule);
+    try (RunningPhase phase = timeBudget ? this.metrics.startWithBudget(ruleName) : this.metrics.start(ruleName);
+         PhaseEvent event = EnforcerEvents.begin(Phase.RULE)) {
+      enforcer.accept(report);
+    } catch (TimeBudgetExceededException e) {
+      report = new ErrorReport(rule).markCancelled();
+    }
+    reportTimeBudget(ruleName, log);
+    this.metrics.recordViolations(ruleName, report.hasErrors() ? 1 : 0);
+    return report;
+  }
+
+  /**
+   * Logs the metrics of the given rule and adds them to the metrics summary and the metrics export, if configured.
+   *
+   * @param rule The executed rule.
+   * @param log Logger for the metrics. May be <code>null</code>.
+   * @param session Supplies the Maven session, if the metrics are to be collected for all projects.
+   */
+  void finish(PedanticEnforcerRule rule, EnforcerLogger log, Supplier<MavenSession> session) {
+    this.metrics.finish(rule.name());
+    if (log == null) {
+      return;
+    }
+
+    if (this.diagnostics) {
+      log.info("Pedantic POM enforcer diagnostics for " + this.project.getId() + ":\n" + this.metrics.toDiagnosticsTable());
+    } else if (log.isDebugEnabled()) {
+      log.debug(() -> "Pedantic POM enforcer metrics for " + this.project.getId() + ":\n" + this.metrics.toTable());
+    }
+
+    if (this.metricsSummary || !Strings.isNullOrEmpty(this.metricsExport)) {
+      MavenSession mavenSession = session.get();
+      if (mavenSession == null) {
+        return;
+      }
+      if (this.metricsSummary) {
+        MetricsSummary.forSession(mavenSession).add(this.project, this.metrics, log);
+      }
+      if (!Strings.isNullOrEmpty(this.metricsExport)) {
+        MetricsExport.forSession(mavenSession).add(this.project, rule, this.metrics, this.metricsExport, log);
+      }
+    }
+  }
+
+  private void reportTimeBudget(String ruleName, EnforcerLogger log) {
+    PhaseMetrics phase = this.metrics.getPhases().get(ruleName);
+    if (phase == null || !phase.isTimeBudgetExceeded() || log == null) {
+      return;
+    }
+
+    String message = ruleName + " exceeded its time budget of " + this.timeBudgetMillis + " ms in " + this.project.getId();
+    if (phase.isCancelled()) {
+      message += " and has been skipped.";
+    } else {
+      message += " (" + phase.getMeasurement() + ").";
+    }
+    log.warn(message + " " + this.metrics.describeElementCounts() + ".");
+  }
+}
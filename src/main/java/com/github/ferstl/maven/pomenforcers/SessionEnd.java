@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Runs callbacks when a Maven session ends, i.e. after the last project has been built, after a build that failed
+ * early, or after a build in which the rules have not been executed in every project. The rules are loaded as
+ * dependencies of the maven-enforcer-plugin, which is why Maven does not discover lifecycle participants or event spies
+ * in them. Instead, the execution listener of the session is wrapped. Maven fires the session end event on this
+ * listener even if the build fails. The wrapper also holds the values of all {@link SessionScope}s, so every session
+ * has its own state, even if several sessions run concurrently in a Maven daemon.
+ */
+final class SessionEnd {
+
+  private final List<Runnable> callbacks;
+  private final Map<Object, Object> values;
+  private final AtomicBoolean ended;
+
+  /**
+   * Returns the session end of the given session. The execution listener of the session is wrapped on the first call.
+   *
+   * @param session The Maven session.
+   * @return The session end.
+   */
+  static SessionEnd forSession(MavenSession session) {
+    MavenExecutionRequest request = session.getRequest();
+    if (request == null) {
+      // Without a request, the session end is never reported.
+      return new SessionEnd();
+    }
+
+    synchronized (request) {
+      ExecutionListener listener = request.getExecutionListener();
+      if (listener != null && Proxy.isProxyClass(listener.getClass())) {
+        InvocationHandler handler = Proxy.getInvocationHandler(listener);
+        if (handler instanceof SessionEndListener) {
+          return ((SessionEndListener) handler).sessionEnd;
+        }
+      }
+
+      SessionEnd sessionEnd = new SessionEnd();
+      request.setExecutionListener((ExecutionListener) Proxy.newProxyInstance(
+          ExecutionListener.class.getClassLoader(),
+          new Class<?>[]{ExecutionListener.class},
+          new SessionEndListener(listener, sessionEnd)));
+      return sessionEnd;
+    }
+  }
+
+  private SessionEnd() {
+    this.callbacks = new CopyOnWriteArrayList<>();
+    this.values = new HashMap<>();
+    this.ended = new AtomicBoolean();
+  }
+
+  /**
+   * Registers a callback that is run once when the session ends.
+   *
+   * @param callback The callback.
+   */
+  void register(Runnable callback) {
+    this.callbacks.add(callback);
+  }
+
+  /**
+   * Returns the value of the given scope and creates it if necessary.
+   *
+   * @param scope The scope.
+   * @param factory Creates the value.
+   * @return The value.
+   */
+  @SuppressWarnings("unchecked")
+  synchronized <T> T getValue(SessionScope<T> scope, Supplier<T> factory) {
+    // No computeIfAbsent(): the factory may access other scopes of the same session.
+    T value = (T) this.values.get(scope);
+    if (value == null) {
+      value = factory.get();
+      this.values.put(scope, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Runs all registered callbacks. Only the first call has an effect.
+   */
+  void run() {
+    if (!this.ended.compareAndSet(false, true)) {
+      return;
+    }
+
+    for (Runnable callback : this.callbacks) {
+      try {
+        callback.run();
+      } catch (RuntimeException e) {
+        // A failing callback must neither affect the other callbacks nor the build result.
+      }
+    }
+  }
+
+  /**
+   * Delegates all events to the original listener of the session and runs the callbacks before the session end is
+   * delegated. So summaries are logged before Maven's build result.
+   */
+  private static class SessionEndListener implements InvocationHandler {
+
+    private final ExecutionListener delegate;
+    private final SessionEnd sessionEnd;
+
+    SessionEndListener(ExecutionListener delegate, SessionEnd sessionEnd) {
+      this.delegate = delegate;
+      this.sessionEnd = sessionEnd;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return method.invoke(this, args);
+      }
+
+      if ("sessionEnded".equals(method.getName())) {
+        this.sessionEnd.run();
+      }
+
+      if (this.delegate == null) {
+        return null;
+      }
+
+      try {
+        return method.invoke(this.delegate, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
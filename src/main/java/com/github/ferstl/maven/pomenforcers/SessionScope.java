@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.function.Function;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Holds a value that is shared by all enforcer rules of the same Maven session. The values are stored with the
+ * {@link SessionEnd} of their session, so they are released together with the session.
+ *
+ * @param <T> Type of the value.
+ */
+final class SessionScope<T> {
+
+  private final Function<MavenSession, T> factory;
+
+  SessionScope(Function<MavenSession, T> factory) {
+    this.factory = factory;
+  }
+
+  T get(MavenSession session) {
+    return SessionEnd.forSession(session).getValue(this, () -> this.factory.apply(session));
+  }
+}
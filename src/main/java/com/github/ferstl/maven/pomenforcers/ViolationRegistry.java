@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Registry of the violations that have been reported within a Maven session. Violations are identified by the
+ * fingerprint of their {@link ErrorReport}, so the same violation in several projects is reported in full only once.
+ * Only the first location of each violation is kept.
+ */
+final class ViolationRegistry {
+
+  private static final SessionScope<ViolationRegistry> SCOPE = new SessionScope<>(session -> new ViolationRegistry());
+
+  private final ConcurrentMap<String, String> firstLocations;
+
+  static ViolationRegistry forSession(MavenSession session) {
+    return SCOPE.get(session);
+  }
+
+  private ViolationRegistry() {
+    this.firstLocations = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Registers a violation.
+   *
+   * @param fingerprint Fingerprint of the violation.
+   * @param location Location of the violation, e.g. the project ID.
+   * @return The location where the same violation has been registered first or <code>null</code> if the violation has
+   * not been registered before.
+   */
+  String register(String fingerprint, String location) {
+    String firstLocation = this.firstLocations.putIfAbsent(fingerprint, location);
+    return firstLocation == null || firstLocation.equals(location) ? null : firstLocation;
+  }
+}
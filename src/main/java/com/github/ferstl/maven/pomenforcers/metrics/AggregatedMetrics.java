@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aggregates the {@link ExecutionMetrics} of several executions, e.g. of all projects in a reactor. The latencies of
+ * each phase and the POM sizes are collected in {@link Histogram}s and only the slowest modules of each phase are
+ * kept, so the memory footprint does not grow with the number of executions. Phases that have been cancelled because
+ * they exceeded their time budget are counted separately. This class is thread-safe.
+ */
+public final class AggregatedMetrics {
+
+  private static final int SLOWEST_MODULES = 5;
+
+  private final ConcurrentMap<String, PhaseStatistics> phases;
+  private final Histogram pomSizes;
+
+  public AggregatedMetrics() {
+    this.phases = new ConcurrentHashMap<>();
+    this.pomSizes = new Histogram();
+  }
+
+  public void add(ExecutionMetrics metrics) {
+    for (PhaseMetrics phase : metrics.getPhases().values()) {
+      this.phases.computeIfAbsent(phase.getName(), PhaseStatistics::new).add(metrics.getModule(), phase);
+    }
+  }
+
+  /**
+   * Records the size of a POM. Several executions may check the same POM, so the caller records each POM only once.
+   *
+   * @param bytes Size of the POM in bytes.
+   */
+  public void recordPomSize(long bytes) {
+    synchronized (this.pomSizes) {
+      this.pomSizes.record(bytes);
+    }
+  }
+
+  /**
+   * @return The aggregated metrics as compact table, sorted by total time (descending), followed by the POM size
+   * distribution, the slowest modules of each phase and the number of cancelled executions of each phase.
+   */
+  public String toTable() {
+    List<PhaseStatistics> snapshot = new ArrayList<>();
+    for (PhaseStatistics statistics : this.phases.values()) {
+      snapshot.add(statistics.copy());
+    }
+    snapshot.sort(Comparator.comparingLong((PhaseStatistics statistics) -> statistics.totalNanos).reversed());
+
+    MetricsTable table = new MetricsTable("Phase", "Count", "Total [ms]", "p50 [ms]", "p90 [ms]", "p99 [ms]", "Max [ms]", "Allocated [KB]");
+    for (PhaseStatistics statistics : snapshot) {
+      table.addRow(
+          statistics.phase,
+          Long.toString(statistics.latencies.getTotalCount()),
+          MetricsTable.formatMillis(statistics.totalNanos),
+          MetricsTable.formatMillis(statistics.latencies.getValueAtPercentile(50)),
+          MetricsTable.formatMillis(statistics.latencies.getValueAtPercentile(90)),
+          MetricsTable.formatMillis(statistics.latencies.getValueAtPercentile(99)),
+          MetricsTable.formatMillis(statistics.latencies.getMax()),
+          MetricsTable.formatKilobytes(statistics.allocationSupported ? statistics.allocatedBytes : -1));
+    }
+
+    StringBuilder sb = new StringBuilder(table.toString());
+    Histogram pomSizeSnapshot;
+    synchronized (this.pomSizes) {
+      pomSizeSnapshot = this.pomSizes.copy();
+    }
+    sb.append("\n\nPOM size [KB]: p50 ").append(MetricsTable.formatKilobytes(pomSizeSnapshot.getValueAtPercentile(50)))
+        .append(", p90 ").append(MetricsTable.formatKilobytes(pomSizeSnapshot.getValueAtPercentile(90)))
+        .append(", p99 ").append(MetricsTable.formatKilobytes(pomSizeSnapshot.getValueAtPercentile(99)))
+        .append(", max ").append(MetricsTable.formatKilobytes(pomSizeSnapshot.getMax()));
+
+    sb.append("\n\nSlowest modules:");
+    for (PhaseStatistics statistics : snapshot) {
+      sb.append("\n").append(statistics.phase).append(": ");
+      List<ModuleLatency> slowest = new ArrayList<>(statistics.slowestModules);
+      slowest.sort(Comparator.comparingLong((ModuleLatency latency) -> latency.nanos).reversed());
+      for (int i = 0; i < slowest.size(); i++) {
+        ModuleLatency latency = slowest.get(i);
+        sb.append(i > 0 ? ", " : "").append(latency.module).append(" (").append(MetricsTable.formatMillis(latency.nanos)).append(" ms)");
+      }
+    }
+
+    String separator = "\n\nCancelled after exceeding the time budget: ";
+    for (PhaseStatistics statistics : snapshot) {
+      if (statistics.cancelled > 0) {
+        sb.append(separator).append(statistics.phase).append(" (").append(statistics.cancelled).append(" modules)");
+        separator = ", ";
+      }
+    }
+
+    return sb.toString();
+  }
+
+  private static final class PhaseStatistics {
+
+    private final String phase;
+    private final Histogram latencies;
+    private final PriorityQueue<ModuleLatency> slowestModules;
+    private long totalNanos;
+    private long allocatedBytes;
+    private boolean allocationSupported = true;
+    private int cancelled;
+
+    PhaseStatistics(String phase) {
+      this.phase = phase;
+      this.latencies = new Histogram();
+      this.slowestModules = new PriorityQueue<>(SLOWEST_MODULES + 1, Comparator.comparingLong(latency -> latency.nanos));
+    }
+
+    synchronized void add(String module, PhaseMetrics phase) {
+      Measurement measurement = phase.getMeasurement();
+      if (phase.isCancelled()) {
+        this.cancelled++;
+      }
+      long nanos = measurement.getNanos();
+      this.latencies.record(nanos);
+      this.totalNanos += nanos;
+      if (measurement.hasAllocatedBytes()) {
+        this.allocatedBytes += measurement.getAllocatedBytes();
+      } else {
+        this.allocationSupported = false;
+      }
+
+      if (this.slowestModules.size() < SLOWEST_MODULES || this.slowestModules.peek().nanos < nanos) {
+        this.slowestModules.add(new ModuleLatency(module, nanos));
+        if (this.slowestModules.size() > SLOWEST_MODULES) {
+          this.slowestModules.poll();
+        }
+      }
+    }
+
+    synchronized PhaseStatistics copy() {
+      PhaseStatistics copy = new PhaseStatistics(this.phase);
+      copy.latencies.add(this.latencies);
+      copy.slowestModules.addAll(this.slowestModules);
+      copy.totalNanos = this.totalNanos;
+      copy.allocatedBytes = this.allocatedBytes;
+      copy.allocationSupported = this.allocationSupported;
+      copy.cancelled = this.cancelled;
+      return copy;
+    }
+  }
+
+  private static final class ModuleLatency {
+
+    private final String module;
+    private final long nanos;
+
+    ModuleLatency(String module, long nanos) {
+      this.module = module;
+      this.nanos = nanos;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Operations that are counted per phase, see {@link ExecutionMetrics#count(Counter)}. Diagnostic counters are only
+ * counted in diagnostics mode since they are incremented in hot code paths.
+ */
+public enum Counter {
+  /**
+   * A cached object, e.g. a JAXB context, was reused.
+   */
+  CACHE_HIT("Cache hits", false),
+  /**
+   * An object had to be created because it was not cached yet.
+   */
+  CACHE_MISS("Cache misses", false),
+  /**
+   * Two elements were compared by a priority ordering.
+   */
+  COMPARISON("Comparisons", true),
+  /**
+   * A compound ordering was created from the priority orderings of several elements.
+   */
+  ORDERING_CREATION("Orderings", true),
+  /**
+   * The rank of an element was looked up in a priority collection.
+   */
+  RANK_LOOKUP("Rank lookups", true),
+  /**
+   * Properties were evaluated in a string.
+   */
+  PROPERTY_EVALUATION("Property evaluations", true),
+  /**
+   * Two elements were matched against each other.
+   */
+  MATCH_ATTEMPT("Match attempts", true);
+
+  private final String label;
+  private final boolean diagnostic;
+
+  Counter(String label, boolean diagnostic) {
+    this.label = label;
+    this.diagnostic = diagnostic;
+  }
+
+  public String getLabel() {
+    return this.label;
+  }
+
+  public boolean isDiagnostic() {
+    return this.diagnostic;
+  }
+}
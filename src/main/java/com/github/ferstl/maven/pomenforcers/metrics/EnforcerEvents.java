@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Events for the phases of the pedantic enforcer rules. The events are recorded with Java Flight Recorder (JFR) if it
+ * is available in the running JVM. Otherwise all methods return shared no-op instances and don't allocate anything.
+ * <p>
+ * The JFR events are named <code>com.github.ferstl.pomenforcers.Phase</code> and contain the phase, the coordinates
+ * of the module, the rule and the number of processed elements.
+ * </p>
+ */
+public final class EnforcerEvents {
+
+  private static final String JFR_EVENT_CLASS = "jdk.jfr.Event";
+  private static final String JFR_SINK_CLASS = "com.github.ferstl.maven.pomenforcers.metrics.JfrEventSink";
+
+  private static final EventSink SINK = createSink();
+
+  /**
+   * The phases of a pedantic enforcer rule.
+   */
+  public enum Phase {
+    /**
+     * Parsing the POM into a DOM document.
+     */
+    PARSE,
+    /**
+     * Binding the POM to the project model.
+     */
+    BIND,
+    /**
+     * Executing a rule.
+     */
+    RULE,
+    /**
+     * Matching the declared dependencies or plugins with the ones of the Maven project, including the evaluation of
+     * properties.
+     */
+    MATCH,
+    /**
+     * Checking the order of POM elements.
+     */
+    ORDER_CHECK,
+    /**
+     * Rendering the diff of an error report.
+     */
+    DIFF,
+    /**
+     * Assembling an error report.
+     */
+    REPORT
+  }
+
+  private EnforcerEvents() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  /**
+   * @return <code>true</code> if the events are recorded with JFR.
+   */
+  public static boolean isAvailable() {
+    return SINK != EventSink.NOOP;
+  }
+
+  /**
+   * Begins an event for the given phase. The event ends when it is closed:
+   * <pre>
+   * try (PhaseEvent event = EnforcerEvents.begin(Phase.ORDER_CHECK).withElements(modules.size())) {
+   *   ...
+   * }
+   * </pre>
+   *
+   * @param phase The phase.
+   * @return The started event.
+   */
+  public static PhaseEvent begin(Phase phase) {
+    return SINK.begin(phase);
+  }
+
+  /**
+   * Assigns the given module and rule to all events that are started on the current thread until the returned context
+   * is closed. Contexts can be nested.
+   *
+   * @param module Coordinates of the module.
+   * @param rule Name of the rule.
+   * @return The context.
+   */
+  public static EventContext context(String module, String rule) {
+    return SINK.context(module, rule);
+  }
+
+  private static EventSink createSink() {
+    try {
+      Class.forName(JFR_EVENT_CLASS, false, EnforcerEvents.class.getClassLoader());
+      return (EventSink) Class.forName(JFR_SINK_CLASS).getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+      // JFR is not available in this JVM
+      return EventSink.NOOP;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Module and rule that are assigned to all events started on the current thread until this context is closed, see
+ * {@link EnforcerEvents#context(String, String)}.
+ */
+public interface EventContext extends AutoCloseable {
+
+  /**
+   * Context that is returned when events are not recorded.
+   */
+  EventContext NOOP = () -> { };
+
+  @Override
+  void close();
+}
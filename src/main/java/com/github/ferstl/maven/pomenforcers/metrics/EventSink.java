@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+
+/**
+ * Destination of the events created by {@link EnforcerEvents}.
+ */
+interface EventSink {
+
+  EventSink NOOP = new EventSink() {
+
+    @Override
+    public PhaseEvent begin(Phase phase) {
+      return PhaseEvent.NOOP;
+    }
+
+    @Override
+    public EventContext context(String module, String rule) {
+      return EventContext.NOOP;
+    }
+  };
+
+  PhaseEvent begin(Phase phase);
+
+  EventContext context(String module, String rule);
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+
+/**
+ * Metrics of a single execution of a pedantic enforcer rule. The measurements are recorded per phase, which is either
+ * parsing the POM, binding the POM to the project model or executing a rule. Phases are measured with
+ * {@link #start(String)} on the thread that executes the rule. Operations that are counted with
+ * {@link #count(Counter)} are assigned to the innermost running phase of the current thread. The start and the end of
+ * each phase are reported to a {@link MetricsListener}. {@link Counter#isDiagnostic() Diagnostic counters} are only
+ * counted if diagnostics are {@link #enableDiagnostics() enabled}. Phases that are started with
+ * {@link #startWithBudget(String)} are subject to the {@link #setTimeBudget(long, boolean) time budget}. The budget
+ * is checked whenever an operation is counted. Code that does not count any operations calls
+ * {@link #checkTimeBudget()} in its loops instead. Instances of this class are not thread-safe.
+ */
+public final class ExecutionMetrics {
+
+  /**
+   * Phase for parsing the POM into a DOM document.
+   */
+  public static final String PARSE = "parse";
+
+  /**
+   * Phase for binding the POM to the project model.
+   */
+  public static final String BIND = "bind";
+
+  private static final ThreadLocal<RunningPhase> CURRENT_PHASE = new ThreadLocal<>();
+
+  /**
+   * Number of running phases with enabled diagnostics or a cancellable time budget in this JVM. Used to skip the
+   * thread-local lookup in hot code paths when neither is enabled at all. The field is only written while holding the
+   * class lock but it is read without synchronization, so the default path costs a plain field read. A thread always
+   * sees its own phases in this count, and its own phases are the only ones that {@link #count(Counter)} and
+   * {@link #checkTimeBudget()} look up.
+   */
+  private static int instrumentedPhases;
+
+  private final String module;
+  private final MetricsListener listener;
+  private final Map<String, PhaseMetrics> phases;
+  private boolean diagnostics;
+  private long timeBudgetNanos;
+  private boolean cancelOnTimeBudget;
+  private int dependencies;
+  private int managedDependencies;
+  private int plugins;
+  private int managedPlugins;
+  private int modules;
+  private long pomSize;
+
+  public ExecutionMetrics() {
+    this(null, MetricsListener.NOOP);
+  }
+
+  /**
+   * Creates the metrics for a rule execution.
+   *
+   * @param module Coordinates of the module.
+   * @param listener Listener to be notified about the phases.
+   */
+  public ExecutionMetrics(String module, MetricsListener listener) {
+    this.module = module;
+    this.listener = listener;
+    this.phases = new LinkedHashMap<>();
+  }
+
+  /**
+   * Counts an operation in the innermost phase that is running on the current thread and checks the time budget of
+   * this phase. Operations outside of a phase are not counted.
+   *
+   * @param counter The counter.
+   * @throws TimeBudgetExceededException if the phase has exceeded its time budget and is to be cancelled.
+   */
+  public static void count(Counter counter) {
+    if (instrumentedPhases == 0 && counter.isDiagnostic()) {
+      return;
+    }
+
+    RunningPhase phase = CURRENT_PHASE.get();
+    if (phase != null) {
+      phase.phase.count(counter);
+      phase.checkTimeBudget();
+    }
+  }
+
+  /**
+   * Checks the time budget of the innermost phase that is running on the current thread without counting an
+   * operation.
+   *
+   * @throws TimeBudgetExceededException if the phase has exceeded its time budget and is to be cancelled.
+   */
+  public static void checkTimeBudget() {
+    if (instrumentedPhases == 0) {
+      return;
+    }
+
+    RunningPhase phase = CURRENT_PHASE.get();
+    if (phase != null) {
+      phase.checkTimeBudget();
+    }
+  }
+
+  /**
+   * Enables the {@link Counter#isDiagnostic() diagnostic counters} for all phases that are started afterwards.
+   */
+  public void enableDiagnostics() {
+    this.diagnostics = true;
+  }
+
+  public boolean isDiagnosticsEnabled() {
+    return this.diagnostics;
+  }
+
+  /**
+   * Sets the time budget for all phases that are started afterwards with {@link #startWithBudget(String)}.
+   *
+   * @param budgetNanos The time budget in nanoseconds. A value of 0 or less disables the time budget.
+   * @param cancel If <code>true</code>, a phase that exceeds its time budget is cancelled with a
+   * {@link TimeBudgetExceededException}.
+   */
+  public void setTimeBudget(long budgetNanos, boolean cancel) {
+    this.timeBudgetNanos = Math.max(0, budgetNanos);
+    this.cancelOnTimeBudget = cancel;
+  }
+
+  public long getTimeBudgetNanos() {
+    return this.timeBudgetNanos;
+  }
+
+  /**
+   * Starts measuring a phase on the current thread. Measurements of the same phase are summed up.
+   * <pre>
+   * try (RunningPhase phase = metrics.start(ExecutionMetrics.PARSE)) {
+   *   ...
+   * }
+   * </pre>
+   *
+   * @param phase The phase, e.g. {@link #PARSE}, {@link #BIND} or the name of a rule.
+   * @return The running phase, which has to be closed on the same thread.
+   */
+  public RunningPhase start(String phase) {
+    this.listener.phaseStarted(this.module, phase);
+    return new RunningPhase(this, getOrCreatePhase(phase), 0);
+  }
+
+  /**
+   * Starts measuring a phase on the current thread like {@link #start(String)}. The phase is subject to the
+   * {@link #setTimeBudget(long, boolean) time budget}, if one is set.
+   *
+   * @param phase The name of a rule.
+   * @return The running phase, which has to be closed on the same thread.
+   */
+  public RunningPhase startWithBudget(String phase) {
+    this.listener.phaseStarted(this.module, phase);
+    return new RunningPhase(this, getOrCreatePhase(phase), this.timeBudgetNanos);
+  }
+
+  /**
+   * Notifies the listener that the rule execution has finished.
+   *
+   * @param rule The executed rule.
+   */
+  public void finish(String rule) {
+    this.listener.executionFinished(this.module, rule, this);
+  }
+
+  /**
+   * Records the measurement of a phase. Measurements of the same phase are summed up.
+   *
+   * @param phase The phase, e.g. {@link #PARSE}, {@link #BIND} or the name of a rule.
+   * @param measurement The measurement.
+   */
+  public void record(String phase, Measurement measurement) {
+    getOrCreatePhase(phase).add(measurement);
+  }
+
+  /**
+   * Records violations that have been reported in the given phase.
+   *
+   * @param phase The phase.
+   * @param violations The number of violations.
+   */
+  public void recordViolations(String phase, int violations) {
+    getOrCreatePhase(phase).addViolations(violations);
+  }
+
+  /**
+   * Records the number of elements in the POM.
+   *
+   * @param model The project model of the POM.
+   */
+  public void recordElementCounts(ProjectModel model) {
+    this.dependencies = model.getDependencies().size();
+    this.managedDependencies = model.getManagedDependencies().size();
+    this.plugins = model.getPlugins().size();
+    this.managedPlugins = model.getManagedPlugins().size();
+    this.modules = model.getModules().size();
+  }
+
+  public String getModule() {
+    return this.module;
+  }
+
+  /**
+   * Records the size of the POM file.
+   *
+   * @param bytes The size in bytes.
+   */
+  public void recordPomSize(long bytes) {
+    this.pomSize = bytes;
+  }
+
+  /**
+   * @return The size of the POM file in bytes.
+   */
+  public long getPomSize() {
+    return this.pomSize;
+  }
+
+  /**
+   * @return The metrics by phase, in the order the phases were started.
+   */
+  public Map<String, PhaseMetrics> getPhases() {
+    return Collections.unmodifiableMap(this.phases);
+  }
+
+  public int getDependencies() {
+    return this.dependencies;
+  }
+
+  public int getManagedDependencies() {
+    return this.managedDependencies;
+  }
+
+  public int getPlugins() {
+    return this.plugins;
+  }
+
+  public int getManagedPlugins() {
+    return this.managedPlugins;
+  }
+
+  public int getModules() {
+    return this.modules;
+  }
+
+  /**
+   * @return The metrics including all counters and the number of elements in the POM as compact table.
+   */
+  public String toDiagnosticsTable() {
+    Counter[] counters = Counter.values();
+    String[] header = new String[counters.length + 2];
+    header[0] = "Phase";
+    header[1] = "Time [ms]";
+    for (Counter counter : counters) {
+      header[counter.ordinal() + 2] = counter.getLabel();
+    }
+
+    MetricsTable table = new MetricsTable(header);
+    for (PhaseMetrics phase : this.phases.values()) {
+      String[] row = new String[header.length];
+      row[0] = phase.getName();
+      row[1] = MetricsTable.formatMillis(phase.getMeasurement().getNanos());
+      for (Counter counter : counters) {
+        row[counter.ordinal() + 2] = Long.toString(phase.getCount(counter));
+      }
+      table.addRow(row);
+    }
+
+    return describeElementCounts() + "\n" + table;
+  }
+
+  /**
+   * @return The number of elements in the POM, e.g. for log messages.
+   */
+  public String describeElementCounts() {
+    return "Dependencies: " + this.dependencies
+        + ", managed dependencies: " + this.managedDependencies
+        + ", plugins: " + this.plugins
+        + ", managed plugins: " + this.managedPlugins
+        + ", modules: " + this.modules;
+  }
+
+  /**
+   * @return The metrics as compact table.
+   */
+  public String toTable() {
+    MetricsTable table = new MetricsTable("Phase", "Time [ms]", "Allocated [KB]");
+    for (PhaseMetrics phase : this.phases.values()) {
+      Measurement measurement = phase.getMeasurement();
+      table.addRow(phase.getName(), MetricsTable.formatMillis(measurement.getNanos()), MetricsTable.formatKilobytes(measurement.getAllocatedBytes()));
+    }
+    return table.toString();
+  }
+
+  private static synchronized void updateInstrumentedPhases(int delta) {
+    instrumentedPhases += delta;
+  }
+
+  private PhaseMetrics getOrCreatePhase(String phase) {
+    return this.phases.computeIfAbsent(phase, name -> new PhaseMetrics(name, this.diagnostics));
+  }
+
+  /**
+   * A phase that is being measured, see {@link ExecutionMetrics#start(String)}.
+   */
+  public static final class RunningPhase implements AutoCloseable {
+
+    private final ExecutionMetrics metrics;
+    private final PhaseMetrics phase;
+    private final RunningPhase previousPhase;
+    private final boolean instrumented;
+    private final long budgetNanos;
+    private final long startNanos;
+    private final Measurement.Started measurement;
+
+    RunningPhase(ExecutionMetrics metrics, PhaseMetrics phase, long budgetNanos) {
+      this.metrics = metrics;
+      this.phase = phase;
+      this.budgetNanos = budgetNanos;
+      this.instrumented = metrics.diagnostics || budgetNanos > 0 && metrics.cancelOnTimeBudget;
+      this.previousPhase = CURRENT_PHASE.get();
+      CURRENT_PHASE.set(this);
+      if (this.instrumented) {
+        updateInstrumentedPhases(1);
+      }
+      this.measurement = Measurement.start();
+      this.startNanos = budgetNanos > 0 ? System.nanoTime() : 0;
+    }
+
+    void checkTimeBudget() {
+      if (this.budgetNanos > 0 && this.metrics.cancelOnTimeBudget && System.nanoTime() - this.startNanos > this.budgetNanos) {
+        this.phase.markCancelled();
+        throw new TimeBudgetExceededException(this.phase.getName(), this.budgetNanos);
+      }
+    }
+
+    @Override
+    public void close() {
+      Measurement result = this.measurement.stop();
+      this.phase.add(result);
+      if (this.budgetNanos > 0 && result.getNanos() > this.budgetNanos) {
+        this.phase.markTimeBudgetExceeded();
+      }
+      this.metrics.listener.phaseFinished(this.metrics.module, this.phase.getName(), result);
+      if (this.instrumented) {
+        updateInstrumentedPhases(-1);
+      }
+      if (this.previousPhase != null) {
+        CURRENT_PHASE.set(this.previousPhase);
+      } else {
+        CURRENT_PHASE.remove();
+      }
+    }
+  }
+}
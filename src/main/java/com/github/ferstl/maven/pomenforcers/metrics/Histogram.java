@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Histogram of non-negative values with a fixed memory footprint. Values below 16 are counted exactly. Larger values
+ * are counted in buckets that split each power of two into 16 sub-buckets, so percentiles have a relative error of at
+ * most 1/16. Instances of this class are not thread-safe.
+ */
+final class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final long[] counts;
+  private long totalCount;
+  private long max;
+
+  Histogram() {
+    this.counts = new long[BUCKETS];
+  }
+
+  void record(long value) {
+    long nonNegative = Math.max(0, value);
+    this.counts[index(nonNegative)]++;
+    this.totalCount++;
+    this.max = Math.max(this.max, nonNegative);
+  }
+
+  void add(Histogram other) {
+    for (int i = 0; i < BUCKETS; i++) {
+      this.counts[i] += other.counts[i];
+    }
+    this.totalCount += other.totalCount;
+    this.max = Math.max(this.max, other.max);
+  }
+
+  long getTotalCount() {
+    return this.totalCount;
+  }
+
+  long getMax() {
+    return this.max;
+  }
+
+  /**
+   * Returns the value at the given percentile. The result is the upper bound of the bucket containing the percentile
+   * but never more than the maximum recorded value.
+   *
+   * @param percentile The percentile between 0 and 100.
+   * @return The value at the given percentile or 0 if no value has been recorded.
+   */
+  long getValueAtPercentile(double percentile) {
+    if (this.totalCount == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.totalCount));
+    long cumulativeCount = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      cumulativeCount += this.counts[i];
+      if (cumulativeCount >= rank) {
+        return Math.min(upperBound(i), this.max);
+      }
+    }
+    return this.max;
+  }
+
+  Histogram copy() {
+    Histogram copy = new Histogram();
+    copy.add(this);
+    return copy;
+  }
+
+  static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> exponent) - SUB_BUCKETS;
+    return SUB_BUCKETS + exponent * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS;
+    long subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+    long upperBound = ((SUB_BUCKETS + subBucket + 1) << exponent) - 1;
+    // The highest bucket overflows
+    return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+  }
+}
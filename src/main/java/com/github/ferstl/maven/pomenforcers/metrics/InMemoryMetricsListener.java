@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MetricsListener} that keeps all notifications in memory. It is intended for tests and should not be
+ * registered in production builds since it never discards anything until {@link #clear()} is called.
+ */
+public class InMemoryMetricsListener implements MetricsListener {
+
+  private final Queue<Notification> notifications = new ConcurrentLinkedQueue<>();
+
+  @Override
+  public void phaseStarted(String module, String phase) {
+    this.notifications.add(new Notification(Type.PHASE_STARTED, module, phase, null));
+  }
+
+  @Override
+  public void phaseFinished(String module, String phase, Measurement measurement) {
+    this.notifications.add(new Notification(Type.PHASE_FINISHED, module, phase, measurement));
+  }
+
+  @Override
+  public void executionFinished(String module, String rule, ExecutionMetrics metrics) {
+    this.notifications.add(new Notification(Type.EXECUTION_FINISHED, module, rule, null));
+  }
+
+  /**
+   * @return All notifications in the order they were received.
+   */
+  public List<Notification> getNotifications() {
+    return new ArrayList<>(this.notifications);
+  }
+
+  /**
+   * @param module Coordinates of a module.
+   * @return All notifications for the given module in the order they were received.
+   */
+  public List<Notification> getNotifications(String module) {
+    return this.notifications.stream()
+        .filter(notification -> module.equals(notification.getModule()))
+        .collect(Collectors.toList());
+  }
+
+  public void clear() {
+    this.notifications.clear();
+  }
+
+  public enum Type {
+    PHASE_STARTED,
+    PHASE_FINISHED,
+    EXECUTION_FINISHED
+  }
+
+  /**
+   * A received notification.
+   */
+  public static final class Notification {
+
+    private final Type type;
+    private final String module;
+    private final String name;
+    private final Measurement measurement;
+
+    Notification(Type type, String module, String name, Measurement measurement) {
+      this.type = type;
+      this.module = module;
+      this.name = name;
+      this.measurement = measurement;
+    }
+
+    public Type getType() {
+      return this.type;
+    }
+
+    public String getModule() {
+      return this.module;
+    }
+
+    /**
+     * @return The phase or, for {@link Type#EXECUTION_FINISHED}, the rule.
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * @return The measurement for {@link Type#PHASE_FINISHED}, otherwise <code>null</code>.
+     */
+    public Measurement getMeasurement() {
+      return this.measurement;
+    }
+
+    @Override
+    public String toString() {
+      return this.type + " " + this.name;
+    }
+  }
+}
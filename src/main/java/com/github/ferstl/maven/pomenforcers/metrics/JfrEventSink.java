@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+
+/**
+ * Records the events with Java Flight Recorder. This class must only be loaded reflectively by
+ * {@link EnforcerEvents} after checking that JFR is available.
+ */
+final class JfrEventSink implements EventSink {
+
+  private final EventType eventType;
+  private final ThreadLocal<Context> context;
+
+  JfrEventSink() {
+    this.eventType = EventType.getEventType(JfrPhaseEvent.class);
+    this.context = new ThreadLocal<>();
+  }
+
+  @Override
+  public PhaseEvent begin(Phase phase) {
+    if (!this.eventType.isEnabled()) {
+      return PhaseEvent.NOOP;
+    }
+
+    JfrPhaseEvent event = new JfrPhaseEvent(phase, this.context.get());
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public EventContext context(String module, String rule) {
+    Context previous = this.context.get();
+    this.context.set(new Context(module, rule));
+    return () -> {
+      if (previous != null) {
+        this.context.set(previous);
+      } else {
+        this.context.remove();
+      }
+    };
+  }
+
+  private static final class Context {
+
+    private final String module;
+    private final String rule;
+
+    Context(String module, String rule) {
+      this.module = module;
+      this.rule = rule;
+    }
+  }
+
+  @Name("com.github.ferstl.pomenforcers.Phase")
+  @Label("Pedantic POM Enforcer Phase")
+  @Description("A phase of a pedantic POM enforcer rule")
+  @Category({"Maven", "Pedantic POM Enforcers"})
+  @StackTrace(false)
+  static final class JfrPhaseEvent extends Event implements PhaseEvent {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Module")
+    String module;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Element Count")
+    int elementCount;
+
+    JfrPhaseEvent(Phase phase, Context context) {
+      this.phase = phase.name();
+      if (context != null) {
+        this.module = context.module;
+        this.rule = context.rule;
+      }
+    }
+
+    @Override
+    public boolean isRecording() {
+      return true;
+    }
+
+    @Override
+    public PhaseEvent withElements(int elementCount) {
+      this.elementCount = elementCount;
+      return this;
+    }
+
+    @Override
+    public void close() {
+      end();
+      if (shouldCommit()) {
+        commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Elapsed time and allocated bytes of a single phase of a pedantic enforcer rule.
+ */
+public final class Measurement {
+
+  private final long nanos;
+  private final long allocatedBytes;
+
+  public Measurement(long nanos, long allocatedBytes) {
+    this.nanos = nanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  /**
+   * Starts a new measurement on the current thread.
+   *
+   * @return The started measurement.
+   */
+  public static Started start() {
+    return new Started(System.nanoTime(), ThreadAllocation.allocatedBytes());
+  }
+
+  public long getNanos() {
+    return this.nanos;
+  }
+
+  /**
+   * @return The bytes allocated by the measured thread or {@code -1} if allocation measurement is not supported by the
+   * JVM.
+   */
+  public long getAllocatedBytes() {
+    return this.allocatedBytes;
+  }
+
+  public boolean hasAllocatedBytes() {
+    return this.allocatedBytes >= 0;
+  }
+
+  /**
+   * Adds the given measurement to this measurement.
+   *
+   * @param other The other measurement.
+   * @return The sum of both measurements.
+   */
+  public Measurement plus(Measurement other) {
+    long allocated = hasAllocatedBytes() && other.hasAllocatedBytes() ? this.allocatedBytes + other.allocatedBytes : -1;
+    return new Measurement(this.nanos + other.nanos, allocated);
+  }
+
+  @Override
+  public String toString() {
+    return MetricsTable.formatMillis(this.nanos) + " ms, " + MetricsTable.formatKilobytes(this.allocatedBytes) + " KB";
+  }
+
+  /**
+   * A measurement that has been started but not yet stopped.
+   */
+  public static final class Started {
+
+    private final long startNanos;
+    private final long startAllocatedBytes;
+
+    Started(long startNanos, long startAllocatedBytes) {
+      this.startNanos = startNanos;
+      this.startAllocatedBytes = startAllocatedBytes;
+    }
+
+    /**
+     * Stops this measurement. Must be called on the thread that started the measurement.
+     *
+     * @return The measurement.
+     */
+    public Measurement stop() {
+      long nanos = System.nanoTime() - this.startNanos;
+      long allocated = this.startAllocatedBytes >= 0 ? ThreadAllocation.allocatedBytes() - this.startAllocatedBytes : -1;
+      return new Measurement(nanos, allocated);
+    }
+  }
+}
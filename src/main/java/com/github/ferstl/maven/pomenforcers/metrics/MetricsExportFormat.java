@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * File formats of the metrics export. Both formats contain one row (CSV) or object (JSON) per module, rule and phase
+ * with these columns:
+ * <table>
+ * <caption>Metrics export schema</caption>
+ * <tr><th>Column</th><th>Type</th><th>Description</th></tr>
+ * <tr><td>module</td><td>string</td><td>Coordinates of the module (<code>groupId:artifactId:packaging:version</code>)</td></tr>
+ * <tr><td>rule</td><td>string</td><td>The configured rule, e.g. <code>COMPOUND</code></td></tr>
+ * <tr><td>phase</td><td>string</td><td><code>parse</code>, <code>bind</code> or the name of an executed rule</td></tr>
+ * <tr><td>durationNanos</td><td>integer</td><td>Duration of the phase in nanoseconds</td></tr>
+ * <tr><td>allocatedBytes</td><td>integer</td><td>Bytes allocated in the phase or <code>-1</code> if not supported by the JVM</td></tr>
+ * <tr><td>dependencies</td><td>integer</td><td>Number of dependencies declared in the POM</td></tr>
+ * <tr><td>managedDependencies</td><td>integer</td><td>Number of managed dependencies declared in the POM</td></tr>
+ * <tr><td>plugins</td><td>integer</td><td>Number of plugins declared in the POM</td></tr>
+ * <tr><td>managedPlugins</td><td>integer</td><td>Number of managed plugins declared in the POM</td></tr>
+ * <tr><td>modules</td><td>integer</td><td>Number of modules declared in the POM</td></tr>
+ * <tr><td>cacheHits</td><td>integer</td><td>Reused cached objects in the phase, e.g. JAXB contexts</td></tr>
+ * <tr><td>cacheMisses</td><td>integer</td><td>Objects that had to be created and cached in the phase</td></tr>
+ * <tr><td>violations</td><td>integer</td><td>Number of rules that reported a violation in the phase</td></tr>
+ * </table>
+ * The element counts refer to the POM of the module and are the same for all phases of the module.
+ */
+public enum MetricsExportFormat {
+
+  CSV {
+    @Override
+    public void write(List<MetricsRow> rows, Writer writer) throws IOException {
+      writer.write(String.join(",", COLUMNS));
+      writer.write('\n');
+      for (MetricsRow row : rows) {
+        Object[] values = row.getValues();
+        for (int i = 0; i < values.length; i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+          writer.write(values[i] instanceof String ? quoteCsv((String) values[i]) : String.valueOf(values[i]));
+        }
+        writer.write('\n');
+      }
+    }
+  },
+
+  JSON {
+    @Override
+    public void write(List<MetricsRow> rows, Writer writer) throws IOException {
+      writer.write('[');
+      for (int i = 0; i < rows.size(); i++) {
+        writer.write(i > 0 ? ",\n  {" : "\n  {");
+        Object[] values = rows.get(i).getValues();
+        for (int j = 0; j < values.length; j++) {
+          if (j > 0) {
+            writer.write(", ");
+          }
+          writer.write(quoteJson(COLUMNS[j]));
+          writer.write(": ");
+          writer.write(values[j] instanceof String ? quoteJson((String) values[j]) : String.valueOf(values[j]));
+        }
+        writer.write('}');
+      }
+      writer.write(rows.isEmpty() ? "]\n" : "\n]\n");
+    }
+  };
+
+  private static final String[] COLUMNS = {
+      "module", "rule", "phase", "durationNanos", "allocatedBytes", "dependencies", "managedDependencies", "plugins",
+      "managedPlugins", "modules", "cacheHits", "cacheMisses", "violations"
+  };
+
+  /**
+   * Determines the format by the extension of the given file name. Files ending with <code>.json</code> are written
+   * in JSON, all other files in CSV.
+   *
+   * @param fileName The file name.
+   * @return The format.
+   */
+  public static MetricsExportFormat forFileName(String fileName) {
+    return fileName.toLowerCase(Locale.ROOT).endsWith(".json") ? JSON : CSV;
+  }
+
+  public abstract void write(List<MetricsRow> rows, Writer writer) throws IOException;
+
+  private static String quoteCsv(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private static String quoteJson(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.append('"').toString();
+  }
+}
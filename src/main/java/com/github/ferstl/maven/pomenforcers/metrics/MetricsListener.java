@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Service provider interface for receiving the metrics of the pedantic enforcer rules, e.g. to forward them to a build
+ * analytics system. Implementations are discovered with {@link java.util.ServiceLoader} on the classpath of the
+ * maven-enforcer-plugin, i.e. they have to be added as plugin dependency together with a
+ * <code>META-INF/services/com.github.ferstl.maven.pomenforcers.metrics.MetricsListener</code> file.
+ * <p>
+ * Listeners are called on the threads executing the rules, which may run concurrently in parallel builds.
+ * Implementations have to be thread-safe and should return quickly. All methods have empty default implementations.
+ * </p>
+ */
+public interface MetricsListener {
+
+  /**
+   * Listener that does nothing. It is used when no listener is registered.
+   */
+  MetricsListener NOOP = new MetricsListener() { };
+
+  /**
+   * Called when a phase starts.
+   *
+   * @param module Coordinates of the module.
+   * @param phase The phase, i.e. {@link ExecutionMetrics#PARSE}, {@link ExecutionMetrics#BIND} or the name of a rule.
+   */
+  default void phaseStarted(String module, String phase) {
+  }
+
+  /**
+   * Called when a phase ends.
+   *
+   * @param module Coordinates of the module.
+   * @param phase The phase, i.e. {@link ExecutionMetrics#PARSE}, {@link ExecutionMetrics#BIND} or the name of a rule.
+   * @param measurement Measurement of the phase.
+   */
+  default void phaseFinished(String module, String phase, Measurement measurement) {
+  }
+
+  /**
+   * Called when a rule execution has finished.
+   *
+   * @param module Coordinates of the module.
+   * @param rule The executed rule.
+   * @param metrics All metrics of the execution. The metrics must not be used after this method returns.
+   */
+  default void executionFinished(String module, String rule, ExecutionMetrics metrics) {
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Discovers the registered {@link MetricsListener}s. The listeners are loaded once per class loader of this plugin.
+ */
+public final class MetricsListeners {
+
+  private static final List<MetricsListener> LISTENERS = load(MetricsListener.class.getClassLoader());
+  private static final MetricsListener LISTENER = combine(LISTENERS);
+
+  private MetricsListeners() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  /**
+   * Returns a listener that notifies all registered listeners. If no listener is registered,
+   * {@link MetricsListener#NOOP} is returned.
+   *
+   * @return The listener.
+   */
+  public static MetricsListener get() {
+    return LISTENER;
+  }
+
+  /**
+   * @return All registered listeners.
+   */
+  public static List<MetricsListener> getListeners() {
+    return LISTENERS;
+  }
+
+  static List<MetricsListener> load(ClassLoader classLoader) {
+    List<MetricsListener> listeners = new ArrayList<>();
+    Iterator<MetricsListener> iterator = ServiceLoader.load(MetricsListener.class, classLoader).iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          break;
+        }
+        listeners.add(iterator.next());
+      } catch (ServiceConfigurationError e) {
+        // A broken listener must not break the build. Skip it and continue with the next one.
+      }
+    }
+    return ImmutableList.copyOf(listeners);
+  }
+
+  static MetricsListener combine(List<MetricsListener> listeners) {
+    switch (listeners.size()) {
+      case 0:
+        return MetricsListener.NOOP;
+      case 1:
+        return listeners.get(0);
+      default:
+        return new CompositeMetricsListener(listeners);
+    }
+  }
+
+  private static final class CompositeMetricsListener implements MetricsListener {
+
+    private final List<MetricsListener> listeners;
+
+    CompositeMetricsListener(List<MetricsListener> listeners) {
+      this.listeners = Collections.unmodifiableList(new ArrayList<>(listeners));
+    }
+
+    @Override
+    public void phaseStarted(String module, String phase) {
+      for (MetricsListener listener : this.listeners) {
+        listener.phaseStarted(module, phase);
+      }
+    }
+
+    @Override
+    public void phaseFinished(String module, String phase, Measurement measurement) {
+      for (MetricsListener listener : this.listeners) {
+        listener.phaseFinished(module, phase, measurement);
+      }
+    }
+
+    @Override
+    public void executionFinished(String module, String rule, ExecutionMetrics metrics) {
+      for (MetricsListener listener : this.listeners) {
+        listener.executionFinished(module, rule, metrics);
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A row of the metrics export, see {@link MetricsExportFormat}. Each row contains the metrics of one phase of a rule
+ * execution in one module.
+ */
+public final class MetricsRow {
+
+  private final String module;
+  private final String rule;
+  private final String phase;
+  private final long durationNanos;
+  private final long allocatedBytes;
+  private final int dependencies;
+  private final int managedDependencies;
+  private final int plugins;
+  private final int managedPlugins;
+  private final int modules;
+  private final long cacheHits;
+  private final long cacheMisses;
+  private final int violations;
+
+  private MetricsRow(String module, String rule, ExecutionMetrics metrics, PhaseMetrics phase) {
+    this.module = module;
+    this.rule = rule;
+    this.phase = phase.getName();
+    this.durationNanos = phase.getMeasurement().getNanos();
+    this.allocatedBytes = phase.getMeasurement().getAllocatedBytes();
+    this.dependencies = metrics.getDependencies();
+    this.managedDependencies = metrics.getManagedDependencies();
+    this.plugins = metrics.getPlugins();
+    this.managedPlugins = metrics.getManagedPlugins();
+    this.modules = metrics.getModules();
+    this.cacheHits = phase.getCount(Counter.CACHE_HIT);
+    this.cacheMisses = phase.getCount(Counter.CACHE_MISS);
+    this.violations = phase.getViolations();
+  }
+
+  /**
+   * Creates the rows for all phases of a rule execution.
+   *
+   * @param module Coordinates of the module.
+   * @param rule The executed rule.
+   * @param metrics Metrics of the execution.
+   * @return One row per phase.
+   */
+  public static List<MetricsRow> of(String module, String rule, ExecutionMetrics metrics) {
+    List<MetricsRow> rows = new ArrayList<>(metrics.getPhases().size());
+    for (PhaseMetrics phase : metrics.getPhases().values()) {
+      rows.add(new MetricsRow(module, rule, metrics, phase));
+    }
+    return rows;
+  }
+
+  public String getModule() {
+    return this.module;
+  }
+
+  Object[] getValues() {
+    return new Object[]{
+        this.module, this.rule, this.phase, this.durationNanos, this.allocatedBytes, this.dependencies,
+        this.managedDependencies, this.plugins, this.managedPlugins, this.modules, this.cacheHits, this.cacheMisses,
+        this.violations
+    };
+  }
+}
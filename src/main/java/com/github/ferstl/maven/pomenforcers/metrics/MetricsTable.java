@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compact plain text table for the metrics in the build log. The first column is left-aligned, all other columns are
+ * right-aligned.
+ */
+final class MetricsTable {
+
+  private static final String NOT_AVAILABLE = "n/a";
+
+  private final List<String[]> rows;
+
+  MetricsTable(String... header) {
+    this.rows = new ArrayList<>();
+    this.rows.add(header);
+  }
+
+  MetricsTable addRow(String... cells) {
+    this.rows.add(cells);
+    return this;
+  }
+
+  static String formatMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+  }
+
+  static String formatKilobytes(long bytes) {
+    return bytes >= 0 ? String.format(Locale.ROOT, "%.1f", bytes / 1024.0) : NOT_AVAILABLE;
+  }
+
+  @Override
+  public String toString() {
+    int columns = this.rows.get(0).length;
+    int[] widths = new int[columns];
+    for (String[] row : this.rows) {
+      for (int i = 0; i < columns; i++) {
+        widths[i] = Math.max(widths[i], row[i].length());
+      }
+    }
+
+    StringBuilder sb = new StringBuilder();
+    for (String[] row : this.rows) {
+      if (sb.length() > 0) {
+        sb.append('\n');
+      }
+      sb.append(pad(row[0], widths[0], false));
+      for (int i = 1; i < columns; i++) {
+        sb.append("  ").append(pad(row[i], widths[i], true));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String pad(String cell, int width, boolean alignRight) {
+    StringBuilder sb = new StringBuilder(width);
+    if (!alignRight) {
+      sb.append(cell);
+    }
+    for (int i = cell.length(); i < width; i++) {
+      sb.append(' ');
+    }
+    if (alignRight) {
+      sb.append(cell);
+    }
+    return sb.toString();
+  }
+}
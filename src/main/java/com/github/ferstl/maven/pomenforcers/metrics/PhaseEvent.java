@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * A running event for a phase of a pedantic enforcer rule, see {@link EnforcerEvents#begin(EnforcerEvents.Phase)}.
+ * The event ends when it is closed.
+ */
+public interface PhaseEvent extends AutoCloseable {
+
+  /**
+   * Event that is returned when events are not recorded.
+   */
+  PhaseEvent NOOP = new PhaseEvent() {
+
+    @Override
+    public boolean isRecording() {
+      return false;
+    }
+
+    @Override
+    public PhaseEvent withElements(int elementCount) {
+      return this;
+    }
+
+    @Override
+    public void close() {
+    }
+  };
+
+  /**
+   * Returns whether this event is being recorded. Use this method to avoid expensive calculations of the element
+   * count if the event is not recorded anyway.
+   *
+   * @return <code>true</code> if this event is being recorded.
+   */
+  boolean isRecording();
+
+  /**
+   * Sets the number of elements processed in the phase, e.g. the number of dependencies.
+   *
+   * @param elementCount The number of elements.
+   * @return This event.
+   */
+  PhaseEvent withElements(int elementCount);
+
+  @Override
+  void close();
+}
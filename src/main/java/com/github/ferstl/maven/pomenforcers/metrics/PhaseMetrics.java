@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+/**
+ * Metrics of a single phase within an {@link ExecutionMetrics}.
+ */
+public final class PhaseMetrics {
+
+  private final String name;
+  private final boolean diagnostics;
+  private final long[] counters;
+  private Measurement measurement;
+  private int violations;
+  private boolean timeBudgetExceeded;
+  private boolean cancelled;
+
+  PhaseMetrics(String name, boolean diagnostics) {
+    this.name = name;
+    this.diagnostics = diagnostics;
+    this.counters = new long[Counter.values().length];
+    this.measurement = new Measurement(0, 0);
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public Measurement getMeasurement() {
+    return this.measurement;
+  }
+
+  public long getCount(Counter counter) {
+    return this.counters[counter.ordinal()];
+  }
+
+  /**
+   * @return The number of violations reported in this phase.
+   */
+  public int getViolations() {
+    return this.violations;
+  }
+
+  /**
+   * @return <code>true</code> if this phase has exceeded its time budget.
+   */
+  public boolean isTimeBudgetExceeded() {
+    return this.timeBudgetExceeded;
+  }
+
+  /**
+   * @return <code>true</code> if this phase has been cancelled because it exceeded its time budget.
+   */
+  public boolean isCancelled() {
+    return this.cancelled;
+  }
+
+  void add(Measurement measurement) {
+    this.measurement = this.measurement.plus(measurement);
+  }
+
+  void count(Counter counter) {
+    if (this.diagnostics || !counter.isDiagnostic()) {
+      this.counters[counter.ordinal()]++;
+    }
+  }
+
+  void markTimeBudgetExceeded() {
+    this.timeBudgetExceeded = true;
+  }
+
+  void markCancelled() {
+    this.timeBudgetExceeded = true;
+    this.cancelled = true;
+  }
+
+  void addViolations(int violations) {
+    this.violations += violations;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the bytes allocated by the current thread. This requires the HotSpot specific
+ * {@code com.sun.management.ThreadMXBean}. On JVMs that don't support it, all measurements return {@code -1}.
+ */
+final class ThreadAllocation {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = lookupThreadMXBean();
+
+  private ThreadAllocation() {
+    throw new AssertionError("Not instantiable");
+  }
+
+  static boolean isSupported() {
+    return THREAD_MX_BEAN != null;
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread so far.
+   *
+   * @return The allocated bytes or {@code -1} if allocation measurement is not supported.
+   */
+  static long allocatedBytes() {
+    return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+  }
+
+  private static com.sun.management.ThreadMXBean lookupThreadMXBean() {
+    try {
+      ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+      if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean hotspotBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (hotspotBean.isThreadAllocatedMemorySupported() && hotspotBean.isThreadAllocatedMemoryEnabled()) {
+          return hotspotBean;
+        }
+      }
+    } catch (LinkageError | RuntimeException e) {
+      // com.sun.management is not available on this JVM
+    }
+    return null;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when a phase has exceeded its time budget and is to be cancelled, see
+ * {@link ExecutionMetrics#setTimeBudget(long, boolean)}.
+ */
+public class TimeBudgetExceededException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  public TimeBudgetExceededException(String phase, long budgetNanos) {
+    super(phase + " exceeded its time budget of " + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + " ms");
+  }
+}
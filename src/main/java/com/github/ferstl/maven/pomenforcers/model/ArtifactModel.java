@@ -17,6 +17,8 @@ package com.github.ferstl.maven.pomenforcers.model;
 
 import java.util.Objects;
 import javax.xml.bind.annotation.XmlElement;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 import com.google.common.base.Joiner;
 import static com.google.common.base.Objects.equal;
 
@@ -64,6 +66,7 @@ public class ArtifactModel {
   }
 
   public boolean matches(ArtifactModel pattern) {
+    ExecutionMetrics.count(Counter.MATCH_ATTEMPT);
     if (pattern == this) {
       return true;
     }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Top-level and nested POM sections that carry content for the pedantic enforcer rules. The
+ * {@link EnumSet} returned by {@link #scan(ProjectModel)} is a bitmap of the non-empty sections of
+ * a POM and allows to skip rules that have nothing to check.
+ */
+public enum ContentSection {
+  MODULES,
+  DEPENDENCY_MANAGEMENT,
+  DEPENDENCIES,
+  PLUGIN_MANAGEMENT,
+  PLUGINS;
+
+  /**
+   * Determines the non-empty sections of the given project model.
+   *
+   * @param projectModel The project model.
+   * @return Set of sections that contain at least one element.
+   */
+  public static Set<ContentSection> scan(ProjectModel projectModel) {
+    Set<ContentSection> sections = EnumSet.noneOf(ContentSection.class);
+    addIfNotEmpty(sections, MODULES, projectModel.getModules());
+    addIfNotEmpty(sections, DEPENDENCY_MANAGEMENT, projectModel.getManagedDependencies());
+    addIfNotEmpty(sections, DEPENDENCIES, projectModel.getDependencies());
+    addIfNotEmpty(sections, PLUGIN_MANAGEMENT, projectModel.getManagedPlugins());
+    addIfNotEmpty(sections, PLUGINS, projectModel.getPlugins());
+
+    return sections;
+  }
+
+  private static void addIfNotEmpty(Set<ContentSection> sections, ContentSection section, Iterable<?> content) {
+    if (content != null && content.iterator().hasNext()) {
+      sections.add(section);
+    }
+  }
+}
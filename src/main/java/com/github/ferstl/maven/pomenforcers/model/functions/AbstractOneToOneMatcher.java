@@ -19,6 +19,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.PhaseEvent;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableBiMap.Builder;
@@ -33,6 +38,12 @@ public abstract class AbstractOneToOneMatcher<U, V> {
   }
 
   public final BiMap<V, V> match(Collection<U> superset, Collection<V> subset) {
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.MATCH).withElements(subset.size())) {
+      return matchInternal(superset, subset);
+    }
+  }
+
+  private BiMap<V, V> matchInternal(Collection<U> superset, Collection<V> subset) {
     Builder<V, V> mapBuilder = ImmutableBiMap.builder();
 
     // Transform the superset here in order not to do it in each nested loop
@@ -42,6 +53,7 @@ public abstract class AbstractOneToOneMatcher<U, V> {
       boolean itemMatched = false;
 
       for (V supersetItem : transformedSuperset) {
+        ExecutionMetrics.count(Counter.MATCH_ATTEMPT);
         if (matches(supersetItem, subsetItem)) {
           itemMatched = true;
           mapBuilder.put(supersetItem, subsetItem);
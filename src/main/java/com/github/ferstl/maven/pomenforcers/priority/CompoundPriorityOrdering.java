@@ -17,25 +17,32 @@ package com.github.ferstl.maven.pomenforcers.priority;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.RandomAccess;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.Sets;
 
 /**
+ * Ordering that combines the {@link PriorityOrdering}s of several elements. The order-by elements and their
+ * priorities are compiled into an immutable ordering which is replaced on modification. Thus, a comparison always sees
+ * a consistent configuration, even if the ordering is used by several threads, and comparing two items doesn't need to
+ * create any orderings. Checking the order and sorting transform and rank each element only once instead of on every
+ * comparison: sorting uses {@link PackedSortKeys} and checking the order compares two {@link SortKey}s, which are
+ * refilled for every element and allocated once per check.
+ *
  * @param <T> Type of this ordering.
  * @param <P> Type of the priorities.
  * @param <F> Type of the {@link PriorityOrderingFactory}.
  */
 public class CompoundPriorityOrdering<T, P extends Comparable<P>, F extends PriorityOrderingFactory<P, T>> extends Ordering<T> {
 
-  private final Set<F> orderBy;
-  private final Multimap<F, P> priorityMap;
+  private volatile CompiledOrdering<T, P, F> compiledOrdering;
 
   public static <T, P extends Comparable<P>, F extends PriorityOrderingFactory<P, T>> CompoundPriorityOrdering<T, P, F> orderBy(Iterable<F> artifactElements) {
     if (Iterables.isEmpty(artifactElements)) {
@@ -51,33 +58,133 @@ public class CompoundPriorityOrdering<T, P extends Comparable<P>, F extends Prio
   }
 
   private CompoundPriorityOrdering(Iterable<F> artifactElements) {
-    this.orderBy = Sets.newLinkedHashSet(artifactElements);
-    this.priorityMap = LinkedHashMultimap.create();
+    this.compiledOrdering = new CompiledOrdering<>(ImmutableSet.copyOf(artifactElements), ImmutableSetMultimap.of());
   }
 
-  public void redefineOrderBy(Iterable<F> artifactElements) {
-    this.orderBy.clear();
-    this.orderBy.addAll(Lists.newArrayList(artifactElements));
+  public synchronized void redefineOrderBy(Iterable<F> artifactElements) {
+    this.compiledOrdering = new CompiledOrdering<>(ImmutableSet.copyOf(artifactElements), this.compiledOrdering.priorityMap);
   }
 
-  public void setPriorities(F artifactElement, Iterable<P> priorities) {
-    this.priorityMap.removeAll(artifactElement);
-    this.priorityMap.putAll(artifactElement, priorities);
+  public synchronized void setPriorities(F artifactElement, Iterable<P> priorities) {
+    ImmutableSetMultimap<F, P> currentPriorities = this.compiledOrdering.priorityMap;
+    ImmutableSetMultimap.Builder<F, P> builder = ImmutableSetMultimap.builder();
+    for (F element : currentPriorities.keySet()) {
+      if (!element.equals(artifactElement)) {
+        builder.putAll(element, currentPriorities.get(element));
+      }
+    }
+    this.compiledOrdering = new CompiledOrdering<>(this.compiledOrdering.orderBy, builder.putAll(artifactElement, priorities).build());
   }
 
   @Override
   public int compare(T left, T right) {
-    return createOrdering().compare(left, right);
+    return this.compiledOrdering.ordering.compare(left, right);
+  }
+
+  @Override
+  public boolean isOrdered(Iterable<? extends T> iterable) {
+    CompiledOrdering<T, P, F> currentOrdering = this.compiledOrdering;
+    int keySize = currentOrdering.priorityOrderings.size();
+    SortKey<T, P> previous = new SortKey<>(keySize);
+    SortKey<T, P> current = new SortKey<>(keySize);
+    boolean first = true;
+    for (T element : iterable) {
+      current.fill(element, currentOrdering.priorityOrderings);
+      if (!first && previous.compareTo(current) > 0) {
+        return false;
+      }
+
+      SortKey<T, P> swap = previous;
+      previous = current;
+      current = swap;
+      first = false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Finds all elements that are out of order in a single pass. Like {@link #isOrdered(Iterable)}, each element is
+   * transformed and ranked only once.
+   *
+   * @param elements The elements to check.
+   * @return The violations.
+   */
+  public OrderViolations findViolations(Iterable<? extends T> elements) {
+    CompiledOrdering<T, P, F> currentOrdering = this.compiledOrdering;
+    int keySize = currentOrdering.priorityOrderings.size();
+    SortKey<T, P> previous = new SortKey<>(keySize);
+    SortKey<T, P> current = new SortKey<>(keySize);
+    ImmutableList.Builder<Integer> positions = ImmutableList.builder();
+    int position = 0;
+    for (T element : elements) {
+      current.fill(element, currentOrdering.priorityOrderings);
+      if (position > 0 && previous.compareTo(current) > 0) {
+        positions.add(position);
+      }
+
+      SortKey<T, P> swap = previous;
+      previous = current;
+      current = swap;
+      position++;
+    }
+
+    return new OrderViolations(position, positions.build());
   }
 
-  private Ordering<T> createOrdering() {
-    List<Comparator<T>> comparators = new ArrayList<>(this.orderBy.size());
-    for (F artifactElement : this.orderBy) {
-      Comparator<T> comparator =
-          artifactElement.createPriorityOrdering(this.priorityMap.get(artifactElement));
-      comparators.add(comparator);
+  @Override
+  public <E extends T> List<E> sortedCopy(Iterable<E> elements) {
+    List<E> unsorted = asRandomAccessList(elements);
+    PackedSortKeys keys = PackedSortKeys.sort(unsorted, this.compiledOrdering.priorityOrderings);
+    List<E> sorted = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      sorted.add(unsorted.get(keys.getPosition(i)));
     }
+    return sorted;
+  }
 
-    return Ordering.compound(comparators);
+  @Override
+  public <E extends T> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+    List<E> unsorted = asRandomAccessList(elements);
+    PackedSortKeys keys = PackedSortKeys.sort(unsorted, this.compiledOrdering.priorityOrderings);
+    ImmutableList.Builder<E> sorted = ImmutableList.builderWithExpectedSize(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      sorted.add(unsorted.get(keys.getPosition(i)));
+    }
+    return sorted.build();
+  }
+
+  /**
+   * Sorting accesses the elements by their position, so they are only copied if this is not efficient.
+   */
+  private static <E> List<E> asRandomAccessList(Iterable<E> elements) {
+    if (elements instanceof List && elements instanceof RandomAccess) {
+      return (List<E>) elements;
+    }
+    return Lists.newArrayList(elements);
+  }
+
+  /**
+   * Immutable combination of the order-by elements, their priorities and the resulting compound ordering.
+   */
+  private static final class CompiledOrdering<T, P extends Comparable<P>, F extends PriorityOrderingFactory<P, T>> {
+
+    private final ImmutableSet<F> orderBy;
+    private final ImmutableSetMultimap<F, P> priorityMap;
+    private final ImmutableList<PriorityOrdering<P, T>> priorityOrderings;
+    private final Ordering<T> ordering;
+
+    CompiledOrdering(ImmutableSet<F> orderBy, ImmutableSetMultimap<F, P> priorityMap) {
+      ExecutionMetrics.count(Counter.ORDERING_CREATION);
+      this.orderBy = orderBy;
+      this.priorityMap = priorityMap;
+
+      ImmutableList.Builder<PriorityOrdering<P, T>> priorityOrderings = ImmutableList.builder();
+      for (F artifactElement : orderBy) {
+        priorityOrderings.add(artifactElement.createPriorityOrdering(priorityMap.get(artifactElement)));
+      }
+      this.priorityOrderings = priorityOrderings.build();
+      this.ordering = Ordering.compound(this.priorityOrderings);
+    }
   }
 }
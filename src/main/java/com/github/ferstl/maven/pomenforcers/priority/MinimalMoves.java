@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Minimal set of elements that have to be moved to bring a collection into order. The elements that stay in place
+ * form a longest non-decreasing subsequence of the collection, which is found with <code>O(n log n)</code>
+ * comparisons. All other elements are moved to their position in the required order.
+ *
+ * @param <T> Type of the elements.
+ */
+public final class MinimalMoves<T> {
+
+  private final int size;
+  private final ImmutableList<Move<T>> moves;
+
+  MinimalMoves(int size, ImmutableList<Move<T>> moves) {
+    this.size = size;
+    this.moves = moves;
+  }
+
+  /**
+   * Finds the minimal set of elements that have to be moved to order the given elements according to the given
+   * comparator.
+   *
+   * @param comparator The comparator.
+   * @param elements The elements to check.
+   * @return The moves, ordered by their target position.
+   */
+  public static <T> MinimalMoves<T> find(Comparator<? super T> comparator, Iterable<? extends T> elements) {
+    List<T> actual = new ArrayList<>();
+    elements.forEach(actual::add);
+    int size = actual.size();
+
+    // tails[k] is the position of the smallest last element of all non-decreasing subsequences of length k + 1
+    int[] tails = new int[size];
+    int[] predecessors = new int[size];
+    int length = 0;
+    for (int i = 0; i < size; i++) {
+      T element = actual.get(i);
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (comparator.compare(actual.get(tails[middle]), element) <= 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+
+      predecessors[i] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = i;
+      if (low == length) {
+        length++;
+      }
+    }
+
+    boolean[] staying = new boolean[size];
+    for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+      staying[i] = true;
+    }
+
+    List<Integer> moved = new ArrayList<>(size - length);
+    for (int i = 0; i < size; i++) {
+      if (!staying[i]) {
+        moved.add(i);
+      }
+    }
+    moved.sort((left, right) -> comparator.compare(actual.get(left), actual.get(right)));
+
+    // Merge the staying elements with the sorted moved elements to find the target positions.
+    ImmutableList.Builder<Move<T>> moves = ImmutableList.builderWithExpectedSize(moved.size());
+    T previous = null;
+    int stayingPosition = 0;
+    int movedIndex = 0;
+    for (int target = 0; target < size; target++) {
+      while (stayingPosition < size && !staying[stayingPosition]) {
+        stayingPosition++;
+      }
+
+      T element;
+      if (movedIndex < moved.size()
+          && (stayingPosition == size || comparator.compare(actual.get(moved.get(movedIndex)), actual.get(stayingPosition)) < 0)) {
+        int source = moved.get(movedIndex++);
+        element = actual.get(source);
+        moves.add(new Move<>(element, source, target, previous));
+      } else {
+        element = actual.get(stayingPosition++);
+      }
+      previous = element;
+    }
+
+    return new MinimalMoves<>(size, moves.build());
+  }
+
+  /**
+   * @return <code>true</code> if no element needs to be moved.
+   */
+  public boolean isEmpty() {
+    return this.moves.isEmpty();
+  }
+
+  /**
+   * @return The number of checked elements.
+   */
+  public int getSize() {
+    return this.size;
+  }
+
+  /**
+   * @return The moves, ordered by their target position.
+   */
+  public ImmutableList<Move<T>> getMoves() {
+    return this.moves;
+  }
+
+  /**
+   * Move of a single element to its position in the required order.
+   *
+   * @param <T> Type of the element.
+   */
+  public static final class Move<T> {
+
+    private final T element;
+    private final int source;
+    private final int target;
+    private final T predecessor;
+
+    Move(T element, int source, int target, T predecessor) {
+      this.element = element;
+      this.source = source;
+      this.target = target;
+      this.predecessor = predecessor;
+    }
+
+    /**
+     * @return The element to move.
+     */
+    public T getElement() {
+      return this.element;
+    }
+
+    /**
+     * @return The position of the element in the actual order.
+     */
+    public int getSource() {
+      return this.source;
+    }
+
+    /**
+     * @return The position of the element in the required order.
+     */
+    public int getTarget() {
+      return this.target;
+    }
+
+    /**
+     * @return The element that precedes the moved element in the required order or <code>null</code> if the moved
+     * element is the first one.
+     */
+    public T getPredecessor() {
+      return this.predecessor;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.Comparator;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Result of checking the order of a collection in a single pass. A violation is the position of an element that is
+ * smaller than its predecessor, so a collection of <code>n</code> elements is checked with <code>n - 1</code>
+ * comparisons.
+ */
+public final class OrderViolations {
+
+  private final int size;
+  private final ImmutableList<Integer> positions;
+
+  OrderViolations(int size, ImmutableList<Integer> positions) {
+    this.size = size;
+    this.positions = positions;
+  }
+
+  /**
+   * Finds all elements that are out of order according to the given comparator.
+   *
+   * @param comparator The comparator.
+   * @param elements The elements to check.
+   * @return The violations.
+   */
+  public static <T> OrderViolations find(Comparator<? super T> comparator, Iterable<? extends T> elements) {
+    ImmutableList.Builder<Integer> positions = ImmutableList.builder();
+    T previous = null;
+    int position = 0;
+    for (T element : elements) {
+      if (position > 0 && comparator.compare(previous, element) > 0) {
+        positions.add(position);
+      }
+      previous = element;
+      position++;
+    }
+
+    return new OrderViolations(position, positions.build());
+  }
+
+  /**
+   * @return <code>true</code> if all elements are in order.
+   */
+  public boolean isEmpty() {
+    return this.positions.isEmpty();
+  }
+
+  /**
+   * @return The number of checked elements.
+   */
+  public int getSize() {
+    return this.size;
+  }
+
+  /**
+   * @return The position of the first element that is smaller than its predecessor or <code>-1</code> if all elements
+   * are in order.
+   */
+  public int getFirstPosition() {
+    return this.positions.isEmpty() ? -1 : this.positions.get(0);
+  }
+
+  /**
+   * @return The position of the last element that is smaller than its predecessor or <code>-1</code> if all elements
+   * are in order.
+   */
+  public int getLastPosition() {
+    return this.positions.isEmpty() ? -1 : this.positions.get(this.positions.size() - 1);
+  }
+
+  /**
+   * @return The positions of all elements that are smaller than their predecessor, in ascending order.
+   */
+  public ImmutableList<Integer> getPositions() {
+    return this.positions;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.Arrays;
+import java.util.List;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+
+/**
+ * Sorts the elements of a compound ordering on primitive keys. The elements are sorted by one {@link PriorityOrdering}
+ * after the other, and each ordering only sorts within the groups of elements that are still tied by the previous
+ * orderings. For each ordering, the rank and the transformed value of the elements are extracted once into columns.
+ * Within a group, the elements are first sorted by their rank and position packed into a <code>long</code> with a
+ * primitive sort, and the values are only compared for elements with the same rank. Both sorts are stable, so elements
+ * which are equal for all orderings keep their order. The columns are allocated for each sort with the number of
+ * elements, so nothing is kept after the sort.
+ */
+final class PackedSortKeys {
+
+  private final int size;
+  private final int[] positions;
+  private final boolean[] groupStarts;
+  private final long[] packedKeys;
+  private final int[] ranks;
+  private final Object[] values;
+  private final int[] buffer;
+
+  private PackedSortKeys(int size) {
+    this.size = size;
+    this.positions = new int[size];
+    this.groupStarts = new boolean[size];
+    this.packedKeys = new long[size];
+    this.ranks = new int[size];
+    this.values = new Object[size];
+    this.buffer = new int[size];
+    for (int i = 0; i < size; i++) {
+      this.positions[i] = i;
+    }
+    if (size > 0) {
+      this.groupStarts[0] = true;
+    }
+  }
+
+  /**
+   * Sorts the given elements.
+   *
+   * @param elements The elements to sort.
+   * @param orderings The priority orderings of the compound ordering.
+   * @return The sort keys containing the sorted positions.
+   */
+  static <T, P extends Comparable<? super P>> PackedSortKeys sort(List<? extends T> elements, List<? extends PriorityOrdering<P, ? super T>> orderings) {
+    PackedSortKeys keys = new PackedSortKeys(elements.size());
+    for (PriorityOrdering<P, ? super T> ordering : orderings) {
+      for (int i = 0; i < keys.size; i++) {
+        P value = ordering.transform(elements.get(i));
+        keys.values[i] = value;
+        keys.ranks[i] = ordering.rank(value);
+      }
+      keys.refineGroups();
+    }
+
+    return keys;
+  }
+
+  /**
+   * @return The number of sorted elements.
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the position of the element at the given index in sorted order.
+   *
+   * @param index Index in sorted order.
+   * @return The position in the unsorted elements.
+   */
+  int getPosition(int index) {
+    return this.positions[index];
+  }
+
+  private void refineGroups() {
+    int from = 0;
+    while (from < this.size) {
+      int to = from + 1;
+      while (to < this.size && !this.groupStarts[to]) {
+        to++;
+      }
+      if (to - from > 1) {
+        refineGroup(from, to);
+      }
+      from = to;
+    }
+  }
+
+  private void refineGroup(int from, int to) {
+    // Ranks are never negative, so the packed keys are sorted by rank first and by position second
+    for (int i = from; i < to; i++) {
+      this.packedKeys[i] = (long) this.ranks[this.positions[i]] << Integer.SIZE | this.positions[i];
+    }
+    Arrays.sort(this.packedKeys, from, to);
+    for (int i = from; i < to; i++) {
+      this.positions[i] = (int) this.packedKeys[i];
+    }
+
+    int runStart = from;
+    for (int i = from + 1; i <= to; i++) {
+      if (i == to || this.ranks[this.positions[i]] != this.ranks[this.positions[runStart]]) {
+        if (i - runStart > 1) {
+          mergeSortByValue(runStart, i);
+        }
+        runStart = i;
+      }
+    }
+
+    for (int i = from + 1; i < to; i++) {
+      this.groupStarts[i] = compare(this.positions[i - 1], this.positions[i]) != 0;
+    }
+  }
+
+  private void mergeSortByValue(int from, int to) {
+    if (to - from < 2) {
+      return;
+    }
+
+    int middle = (from + to) >>> 1;
+    mergeSortByValue(from, middle);
+    mergeSortByValue(middle, to);
+    if (compareValues(this.positions[middle - 1], this.positions[middle]) <= 0) {
+      return;
+    }
+
+    System.arraycopy(this.positions, from, this.buffer, from, to - from);
+    int left = from;
+    int right = middle;
+    for (int i = from; i < to; i++) {
+      if (right >= to || (left < middle && compareValues(this.buffer[left], this.buffer[right]) <= 0)) {
+        this.positions[i] = this.buffer[left++];
+      } else {
+        this.positions[i] = this.buffer[right++];
+      }
+    }
+  }
+
+  private int compare(int position1, int position2) {
+    if (this.ranks[position1] != this.ranks[position2]) {
+      return Integer.compare(this.ranks[position1], this.ranks[position2]);
+    }
+    return compareValues(position1, position2);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private int compareValues(int position1, int position2) {
+    ExecutionMetrics.count(Counter.COMPARISON);
+    return ((Comparable) this.values[position1]).compareTo(this.values[position2]);
+  }
+}
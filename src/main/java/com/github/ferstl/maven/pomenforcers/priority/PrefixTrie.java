@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled prefix trie that returns the rank of a key, i.e. the index of the first declared prefix the key starts
+ * with. Each node stores the smallest index of all prefixes on the path from the root, so the rank of a key is the one
+ * of the deepest node that can be reached with the key. Chains of nodes without a prefix and with only one child are
+ * compressed into a single edge, so the common parts of groupIds like <code>com.company.division</code> are matched
+ * at once. This keeps the declaration order semantics of a linear
+ * {@link String#startsWith(String)} scan while the lookup time only depends on the length of the key. Instances are
+ * immutable and can be shared between threads.
+ */
+final class PrefixTrie {
+
+  private static final char[] NO_LABELS = new char[0];
+  private static final String[] NO_EDGES = new String[0];
+  private static final Node[] NO_CHILDREN = new Node[0];
+
+  private final Node root;
+
+  private PrefixTrie(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Compiles a trie for the given prefixes. The rank of a prefix is its position in the given iterable.
+   *
+   * @param prefixes The prefixes in declaration order.
+   * @return The compiled trie.
+   */
+  static PrefixTrie compile(Iterable<String> prefixes) {
+    NodeBuilder root = new NodeBuilder();
+    int rank = 0;
+    for (String prefix : prefixes) {
+      NodeBuilder node = root;
+      for (int i = 0; i < prefix.length(); i++) {
+        node = node.children.computeIfAbsent(prefix.charAt(i), c -> new NodeBuilder());
+      }
+      node.rank = Math.min(node.rank, rank++);
+    }
+    return new PrefixTrie(root.build(RankIndex.UNRANKED));
+  }
+
+  /**
+   * Returns the rank of the given key.
+   *
+   * @param key The key to rank.
+   * @return The index of the first declared prefix of the given key or {@link RankIndex#UNRANKED} if no prefix
+   * matches.
+   */
+  int rank(String key) {
+    Node node = this.root;
+    int i = 0;
+    while (i < key.length()) {
+      int edge = node.edge(key.charAt(i));
+      // No prefix ends within an edge, so a partially matching edge leaves the rank of the current node
+      if (edge < 0 || !key.regionMatches(i, node.edges[edge], 0, node.edges[edge].length())) {
+        break;
+      }
+      i += node.edges[edge].length();
+      node = node.children[edge];
+    }
+    return node.rank;
+  }
+
+  private static final class Node {
+
+    private final char[] labels;
+    private final String[] edges;
+    private final Node[] children;
+    private final int rank;
+
+    Node(char[] labels, String[] edges, Node[] children, int rank) {
+      this.labels = labels;
+      this.edges = edges;
+      this.children = children;
+      this.rank = rank;
+    }
+
+    int edge(char c) {
+      // The fan-out of groupId and artifactId prefixes is small, so a linear search is sufficient
+      for (int i = 0; i < this.labels.length; i++) {
+        if (this.labels[i] == c) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  private static final class NodeBuilder {
+
+    private final Map<Character, NodeBuilder> children = new TreeMap<>();
+    private int rank = RankIndex.UNRANKED;
+
+    Node build(int parentRank) {
+      int effectiveRank = Math.min(parentRank, this.rank);
+      if (this.children.isEmpty()) {
+        return new Node(NO_LABELS, NO_EDGES, NO_CHILDREN, effectiveRank);
+      }
+
+      char[] labels = new char[this.children.size()];
+      String[] edges = new String[this.children.size()];
+      Node[] nodes = new Node[this.children.size()];
+      int i = 0;
+      for (Map.Entry<Character, NodeBuilder> entry : this.children.entrySet()) {
+        StringBuilder edge = new StringBuilder().append(entry.getKey().charValue());
+        NodeBuilder child = entry.getValue();
+        while (child.rank == RankIndex.UNRANKED && child.children.size() == 1) {
+          Map.Entry<Character, NodeBuilder> next = child.children.entrySet().iterator().next();
+          edge.append(next.getKey().charValue());
+          child = next.getValue();
+        }
+
+        labels[i] = entry.getKey();
+        edges[i] = edge.toString();
+        nodes[i++] = child.build(effectiveRank);
+      }
+      return new Node(labels, edges, nodes, effectiveRank);
+    }
+  }
+}
@@ -19,7 +19,10 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Function;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 import com.google.common.base.Equivalence;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Ordering;
 
 /**
@@ -28,7 +31,8 @@ import com.google.common.collect.Ordering;
  * priority collection. If both compared objects match different items in the priority collection,
  * the object that matches the item closer to the <quote>beginning</quote> of the collection (as
  * returned by the collection's iterator) will be considered smaller. Thus, it is recommended to use
- * {@link List}s or {@link LinkedHashSet}s to define the priority collection.
+ * {@link List}s or {@link LinkedHashSet}s to define the priority collection. The priority collection is copied on
+ * construction, so instances of this class are immutable and can be shared between threads.
  *
  * @param <P> Type of the priority collection.
  * @param <T> Type of the values to be compared.
@@ -36,14 +40,10 @@ import com.google.common.collect.Ordering;
 public class PriorityOrdering<P extends Comparable<? super P>, T> extends Ordering<T> {
 
   /**
-   * The priority collection.
+   * Ranks the values to be compared by matching them against the items in the priority collection. The index is built
+   * once on construction, so ranking doesn't need to scan the priority collection on each comparison.
    */
-  private final Collection<P> priorityCollection;
-
-  /**
-   * Matches the values to be compared with the items in the priority collection.
-   */
-  private final Equivalence<? super P> priorityMatcher;
+  private final RankIndex<P> rankIndex;
 
   /**
    * Transforms the type of the objects to be compared into the type of the priority collection. Use
@@ -54,8 +54,7 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
 
 
   public PriorityOrdering(Collection<P> prioritizedItems, Function<T, P> transformer, Equivalence<? super P> priorityMatcher) {
-    this.priorityCollection = prioritizedItems;
-    this.priorityMatcher = priorityMatcher;
+    this.rankIndex = RankIndex.create(ImmutableList.copyOf(prioritizedItems), priorityMatcher);
     this.transformer = transformer;
   }
 
@@ -65,8 +64,9 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
 
   @Override
   public int compare(T object1, T object2) {
-    P comparable1 = this.transformer.apply(object1);
-    P comparable2 = this.transformer.apply(object2);
+    ExecutionMetrics.count(Counter.COMPARISON);
+    P comparable1 = transform(object1);
+    P comparable2 = transform(object2);
 
     int rank1 = this.rank(comparable1);
     int rank2 = this.rank(comparable2);
@@ -79,6 +79,16 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
 
   }
 
+  /**
+   * Transform the given object into the type of the priority collection.
+   *
+   * @param object The object to transform.
+   * @return The transformed object.
+   */
+  P transform(T object) {
+    return this.transformer.apply(object);
+  }
+
   /**
    * Determine the priority of the given item by matching it against the priority collection.
    * The lower the rank, the higher the priority.
@@ -87,16 +97,9 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
    * @return The priority of the given item or {@link Integer#MAX_VALUE} if the given item does not
    * match any element of the priority collection.
    */
-  private int rank(P item) {
-    int i = 0;
-    for (P prioritizedItem : this.priorityCollection) {
-      if (this.priorityMatcher.equivalent(item, prioritizedItem)) {
-        return i;
-      }
-      i++;
-    }
-
-    return Integer.MAX_VALUE;
+  int rank(P item) {
+    ExecutionMetrics.count(Counter.RANK_LOOKUP);
+    return this.rankIndex.rank(item);
   }
 
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import com.github.ferstl.maven.pomenforcers.model.functions.StringStartsWithEquivalence;
+import com.google.common.base.Equivalence;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Lookup structure for the rank of an item in a priority collection, i.e. the index of the first item in the priority
+ * collection that matches. The index is built once for an immutable priority collection and can be shared between
+ * threads.
+ *
+ * @param <P> Type of the priority collection.
+ */
+abstract class RankIndex<P> {
+
+  /**
+   * Rank of items that don't match any item in the priority collection.
+   */
+  static final int UNRANKED = Integer.MAX_VALUE;
+
+  /**
+   * Creates the most efficient index for the given priority matcher. {@link Equivalence#equals()} uses a hash map,
+   * {@link StringStartsWithEquivalence} a {@link PrefixTrie} and any other matcher a linear scan.
+   */
+  @SuppressWarnings("unchecked")
+  static <P> RankIndex<P> create(ImmutableList<P> priorityCollection, Equivalence<? super P> priorityMatcher) {
+    if (Equivalence.equals().equals(priorityMatcher)) {
+      return new EqualityRankIndex<>(priorityCollection);
+    }
+    if (priorityMatcher instanceof StringStartsWithEquivalence) {
+      return (RankIndex<P>) new PrefixRankIndex((ImmutableList<String>) priorityCollection);
+    }
+    return new LinearRankIndex<>(priorityCollection, priorityMatcher);
+  }
+
+  /**
+   * Determine the rank of the given item.
+   *
+   * @param item The item to rank.
+   * @return The rank of the given item or {@link #UNRANKED} if the given item does not match any element of the
+   * priority collection.
+   */
+  abstract int rank(P item);
+
+  private static <K> ImmutableMap<K, Integer> firstIndexes(Collection<K> items) {
+    Map<K, Integer> indexes = new HashMap<>();
+    int i = 0;
+    for (K item : items) {
+      indexes.putIfAbsent(item, i++);
+    }
+    return ImmutableMap.copyOf(indexes);
+  }
+
+  private static final class EqualityRankIndex<P> extends RankIndex<P> {
+
+    private final ImmutableMap<P, Integer> ranks;
+
+    EqualityRankIndex(Collection<P> priorityCollection) {
+      this.ranks = firstIndexes(priorityCollection);
+    }
+
+    @Override
+    int rank(P item) {
+      Integer rank = this.ranks.get(item);
+      return rank != null ? rank : UNRANKED;
+    }
+  }
+
+  private static final class PrefixRankIndex extends RankIndex<String> {
+
+    private final PrefixTrie trie;
+
+    PrefixRankIndex(Collection<String> priorityCollection) {
+      this.trie = PrefixTrie.compile(priorityCollection);
+    }
+
+    @Override
+    int rank(String item) {
+      return this.trie.rank(item);
+    }
+  }
+
+  private static final class LinearRankIndex<P> extends RankIndex<P> {
+
+    private final ImmutableList<P> priorityCollection;
+    private final Equivalence<? super P> priorityMatcher;
+
+    LinearRankIndex(ImmutableList<P> priorityCollection, Equivalence<? super P> priorityMatcher) {
+      this.priorityCollection = priorityCollection;
+      this.priorityMatcher = priorityMatcher;
+    }
+
+    @Override
+    int rank(P item) {
+      for (int i = 0; i < this.priorityCollection.size(); i++) {
+        if (this.priorityMatcher.equivalent(item, this.priorityCollection.get(i))) {
+          return i;
+        }
+      }
+      return UNRANKED;
+    }
+  }
+}
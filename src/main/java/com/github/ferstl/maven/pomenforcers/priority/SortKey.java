@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.List;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+
+/**
+ * Precomputed sort key of an element. The key holds the rank and the transformed value of the element for each
+ * {@link PriorityOrdering} of a compound ordering. Comparing two keys gives the same result as comparing the elements
+ * with the compound ordering, but without transforming and ranking the elements again on every comparison. Keys are
+ * refilled with the next element, so checking the order of a collection only needs two keys.
+ *
+ * @param <T> Type of the element.
+ * @param <P> Type of the priorities.
+ */
+final class SortKey<T, P extends Comparable<? super P>> implements Comparable<SortKey<T, P>> {
+
+  private final int[] ranks;
+  private final Object[] values;
+
+  SortKey(int size) {
+    this.ranks = new int[size];
+    this.values = new Object[size];
+  }
+
+  void fill(T element, List<? extends PriorityOrdering<P, ? super T>> orderings) {
+    for (int i = 0; i < orderings.size(); i++) {
+      PriorityOrdering<P, ? super T> ordering = orderings.get(i);
+      P value = ordering.transform(element);
+      this.values[i] = value;
+      this.ranks[i] = ordering.rank(value);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int compareTo(SortKey<T, P> other) {
+    ExecutionMetrics.count(Counter.COMPARISON);
+    for (int i = 0; i < this.ranks.length; i++) {
+      if (this.ranks[i] != other.ranks[i]) {
+        return this.ranks[i] - other.ranks[i];
+      }
+
+      int result = ((P) this.values[i]).compareTo((P) other.values[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+}
@@ -19,6 +19,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 import com.google.common.base.Strings;
 
 public final class EnforcerRuleUtils {
@@ -26,6 +28,7 @@ public final class EnforcerRuleUtils {
   private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{.*?}");
 
   public static String evaluateProperties(String input, ExpressionEvaluator helper) {
+    ExecutionMetrics.count(Counter.PROPERTY_EVALUATION);
     if (!Strings.isNullOrEmpty(input)) {
       Matcher matcher = PROPERTY_PATTERN.matcher(input);
       StringBuffer substituted = new StringBuffer();
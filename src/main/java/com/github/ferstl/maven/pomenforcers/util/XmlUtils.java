@@ -17,10 +17,17 @@ package com.github.ferstl.maven.pomenforcers.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.stream.StreamSource;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
@@ -31,9 +38,22 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
+import com.github.ferstl.maven.pomenforcers.metrics.Counter;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
 
+/**
+ * XML utilities. All methods are thread-safe: JAXB contexts are shared in a concurrent map whereas the
+ * non-thread-safe {@link DocumentBuilder}s and {@link XPath}s are borrowed from small bounded pools. Unlike thread
+ * locals, the pools do not attach anything to Maven's worker threads, which would keep the plugin's class loader
+ * reachable in long-living JVMs such as the Maven daemon or an IDE.
+ */
 public final class XmlUtils {
 
+  private static final int POOL_SIZE = 8;
+  private static final BlockingQueue<DocumentBuilder> DOCUMENT_BUILDERS = new ArrayBlockingQueue<>(POOL_SIZE);
+  private static final BlockingQueue<XPath> XPATHS = new ArrayBlockingQueue<>(POOL_SIZE);
+  private static final ConcurrentMap<Class<?>, JAXBContext> JAXB_CONTEXTS = new ConcurrentHashMap<>();
+
   /**
    * Parses the given file into an XML {@link Document}.
    *
@@ -44,11 +64,31 @@ public final class XmlUtils {
     if (!file.exists()) {
       throw new IllegalArgumentException("File " + file + " does not exist.");
     }
+    DocumentBuilder documentBuilder = borrowDocumentBuilder();
     try {
-      DocumentBuilder docBuilder = createDocumentBuilder();
-      return docBuilder.parse(file);
+      return documentBuilder.parse(file);
     } catch (SAXException | IOException e) {
       throw new IllegalStateException("Unable to parse XML file " + file, e);
+    } finally {
+      DOCUMENT_BUILDERS.offer(documentBuilder);
+    }
+  }
+
+  /**
+   * Unmarshals the given file into an instance of the given JAXB-annotated type.
+   *
+   * @param file The file to unmarshal.
+   * @param type The JAXB-annotated type.
+   * @return The unmarshalled object.
+   */
+  public static <T> T unmarshal(File file, Class<T> type) {
+    try {
+      return getJaxbContext(type)
+          .createUnmarshaller()
+          .unmarshal(new StreamSource(file), type)
+          .getValue();
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Unable to unmarshal XML file " + file, e);
     }
   }
 
@@ -82,8 +122,9 @@ public final class XmlUtils {
    * @return The created XML document.
    */
   public static Document createDocument(String root, NodeList content) {
-    DocumentBuilder docBuilder = createDocumentBuilder();
-    Document document = docBuilder.newDocument();
+    DocumentBuilder documentBuilder = borrowDocumentBuilder();
+    Document document = documentBuilder.newDocument();
+    DOCUMENT_BUILDERS.offer(documentBuilder);
     Element rootElement = document.createElement(root);
     document.appendChild(rootElement);
 
@@ -97,12 +138,53 @@ public final class XmlUtils {
 
   @SuppressWarnings("unchecked")
   private static <T> T evaluateXpath(String expression, Document document, QName dataType) {
+    XPath xpath = XPATHS.poll();
+    if (xpath == null) {
+      xpath = createXPath();
+    } else {
+      xpath.reset();
+    }
+
     try {
-      XPath xpath = createXPath();
       XPathExpression compiledExpression = xpath.compile(expression);
       return (T) compiledExpression.evaluate(document, dataType);
     } catch (XPathExpressionException e) {
       throw new IllegalArgumentException("Cannot evaluate XPath expression '" + expression + "'");
+    } finally {
+      XPATHS.offer(xpath);
+    }
+  }
+
+  /**
+   * Takes a document builder from the pool or creates a new one if the pool is empty. The builder has to be offered
+   * back to the pool after use. If the pool is full, it is simply dropped.
+   */
+  private static DocumentBuilder borrowDocumentBuilder() {
+    DocumentBuilder documentBuilder = DOCUMENT_BUILDERS.poll();
+    if (documentBuilder == null) {
+      return createDocumentBuilder();
+    }
+
+    documentBuilder.reset();
+    return documentBuilder;
+  }
+
+  private static JAXBContext getJaxbContext(Class<?> type) {
+    JAXBContext context = JAXB_CONTEXTS.get(type);
+    if (context != null) {
+      ExecutionMetrics.count(Counter.CACHE_HIT);
+      return context;
+    }
+
+    ExecutionMetrics.count(Counter.CACHE_MISS);
+    return JAXB_CONTEXTS.computeIfAbsent(type, XmlUtils::createJaxbContext);
+  }
+
+  private static JAXBContext createJaxbContext(Class<?> type) {
+    try {
+      return JAXBContext.newInstance(type);
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Cannot create JAXB context for " + type, e);
     }
   }
 
@@ -18,6 +18,7 @@ package com.github.ferstl.maven.pomenforcers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 /**
@@ -127,6 +128,39 @@ abstract class AbstractPedanticDependencyOrderEnforcerTest<T extends AbstractPed
     executeRuleAndCheckReport(false);
   }
 
+  @Test
+  void reportMinimalMoves() {
+    this.testRule.setReportMinimalMoves(true);
+
+    this.dependencyAdder.addDependency("a.b.c", "b", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("a.b.c", "c", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("a.b.c", "a", DependencyScope.COMPILE);
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.toString())
+        .contains("1 of 3 entries are out of order.")
+        .contains("position 3 -> 1 (first entry)")
+        .doesNotContain("Actual Order");
+  }
+
+  @Test
+  void diffOnlyContainsEntriesOutOfOrder() {
+    for (String artifactId : "abclde".split("")) {
+      this.dependencyAdder.addDependency("a.b.c", artifactId, DependencyScope.COMPILE);
+    }
+    for (String artifactId : "fghijkmnop".split("")) {
+      this.dependencyAdder.addDependency("a.b.c", artifactId, DependencyScope.COMPILE);
+    }
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.toString())
+        .contains("Actual Order")
+        .contains("(1 leading entries in the required order omitted)")
+        .contains("(2 trailing entries in the required order omitted)")
+        .contains("a.b.c:m:1.0:jar:compile")
+        .doesNotContain("a.b.c:a:1.0:jar:compile", "a.b.c:p:1.0:jar:compile");
+  }
+
   @FunctionalInterface
   interface DependencyAdder {
 
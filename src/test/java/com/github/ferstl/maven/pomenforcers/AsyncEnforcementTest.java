@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.util.Arrays;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link AsyncEnforcement}.
+ */
+class AsyncEnforcementTest {
+
+  private MavenSession session;
+  private MavenExecutionRequest request;
+  private ExecutionListener executionListener;
+  private MavenProject project;
+  private EnforcerLogger log;
+
+  @BeforeEach
+  void before() {
+    this.project = createProject("warn-only");
+    this.executionListener = mock(ExecutionListener.class);
+    this.request = new DefaultMavenExecutionRequest().setExecutionListener(this.executionListener);
+    this.session = createSession(this.request, this.project);
+    this.log = mock(EnforcerLogger.class);
+  }
+
+  @Test
+  void summaryAtSessionEnd() {
+    AsyncEnforcement asyncEnforcement = AsyncEnforcement.forSession(this.session);
+
+    boolean submitted = asyncEnforcement.submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+
+    assertThat(submitted).isTrue();
+    verify(this.log, never()).warn(any(CharSequence.class));
+    endSession();
+    ArgumentCaptor<CharSequence> summary = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).warn(summary.capture());
+    assertThat(summary.getValue().toString())
+        .contains("1 warnings (1 distinct)")
+        .contains("Affected projects (1): com.github.ferstl:warn-only:pom:1.0")
+        .contains("POM_SECTION_ORDER");
+  }
+
+  @Test
+  void identicalFindingsAreReportedOnce() {
+    MavenProject otherProject = createProject("other");
+    when(this.session.getProjects()).thenReturn(Arrays.asList(this.project, otherProject));
+    AsyncEnforcement asyncEnforcement = AsyncEnforcement.forSession(this.session);
+
+    asyncEnforcement.submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+    asyncEnforcement.submit(new PedanticPomSectionOrderEnforcer(otherProject, mock(ExpressionEvaluator.class)), this.log);
+    endSession();
+
+    ArgumentCaptor<CharSequence> summary = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).warn(summary.capture());
+    assertThat(summary.getValue().toString())
+        .contains("2 warnings (1 distinct)")
+        .contains("Affected projects (2): com.github.ferstl:warn-only:pom:1.0, com.github.ferstl:other:pom:1.0");
+  }
+
+  @Test
+  void noSubmissionAfterSummary() {
+    AsyncEnforcement asyncEnforcement = AsyncEnforcement.forSession(this.session);
+    asyncEnforcement.submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+    endSession();
+
+    boolean submitted = AsyncEnforcement.forSession(this.session)
+        .submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+
+    assertThat(submitted).isFalse();
+  }
+
+  @Test
+  void sessionsAreIndependent() {
+    MavenExecutionRequest otherRequest = new DefaultMavenExecutionRequest();
+    MavenSession otherSession = createSession(otherRequest, this.project);
+    EnforcerLogger otherLog = mock(EnforcerLogger.class);
+    AsyncEnforcement.forSession(this.session).submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+    AsyncEnforcement.forSession(otherSession).submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), otherLog);
+
+    otherRequest.getExecutionListener().sessionEnded(mock(ExecutionEvent.class));
+
+    assertThat(AsyncEnforcement.forSession(otherSession)).isNotSameAs(AsyncEnforcement.forSession(this.session));
+    verify(otherLog).warn(any(CharSequence.class));
+    verify(this.log, never()).warn(any(CharSequence.class));
+    assertThat(AsyncEnforcement.forSession(this.session)
+        .submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log)).isTrue();
+  }
+
+  @Test
+  void evaluatorOfTheMojoIsNotUsedAfterSubmission() throws Exception {
+    ExpressionEvaluator helper = mock(ExpressionEvaluator.class);
+    when(helper.evaluate("${session}")).thenReturn(this.session);
+    AsyncEnforcement.forSession(this.session).submit(new PedanticPomSectionOrderEnforcer(this.project, helper), this.log);
+    verify(helper).evaluate("${it-plugin.version}");
+    clearInvocations(helper);
+
+    endSession();
+
+    verifyNoInteractions(helper);
+    verify(this.log).warn(any(CharSequence.class));
+  }
+
+  @Test
+  void summaryWhenRuleIsSkippedInOneProject() {
+    MavenProject skippedProject = createProject("skipped");
+    when(this.session.getProjects()).thenReturn(Arrays.asList(this.project, skippedProject));
+    AsyncEnforcement asyncEnforcement = AsyncEnforcement.forSession(this.session);
+
+    asyncEnforcement.submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+    endSession();
+
+    ArgumentCaptor<CharSequence> summary = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).warn(summary.capture());
+    assertThat(summary.getValue().toString())
+        .contains("1 warnings (1 distinct) in 1 of 2 projects")
+        .contains("POM_SECTION_ORDER");
+  }
+
+  @Test
+  void summaryBeforeBuildResultWhenBuildFailsEarly() {
+    MavenProject failedProject = createProject("failed");
+    MavenProject notBuiltProject = createProject("not-built");
+    when(this.session.getProjects()).thenReturn(Arrays.asList(this.project, failedProject, notBuiltProject));
+    AsyncEnforcement asyncEnforcement = AsyncEnforcement.forSession(this.session);
+    asyncEnforcement.submit(new PedanticPomSectionOrderEnforcer(this.project, mock(ExpressionEvaluator.class)), this.log);
+
+    ExecutionEvent sessionEnded = mock(ExecutionEvent.class);
+    this.request.getExecutionListener().projectFailed(mock(ExecutionEvent.class));
+    this.request.getExecutionListener().sessionEnded(sessionEnded);
+
+    InOrder inOrder = inOrder(this.log, this.executionListener);
+    inOrder.verify(this.executionListener).projectFailed(any(ExecutionEvent.class));
+    inOrder.verify(this.log).warn(any(CharSequence.class));
+    inOrder.verify(this.executionListener).sessionEnded(sessionEnded);
+  }
+
+  private void endSession() {
+    this.request.getExecutionListener().sessionEnded(mock(ExecutionEvent.class));
+  }
+
+  private static MavenProject createProject(String artifactId) {
+    MavenProject project = new MavenProject();
+    project.setGroupId("com.github.ferstl");
+    project.setArtifactId(artifactId);
+    project.setVersion("1.0");
+    project.setPackaging("pom");
+    project.setFile(new File("src/test/projects/warn-only/pom.xml"));
+    return project;
+  }
+
+  private static MavenSession createSession(MavenExecutionRequest request, MavenProject... projects) {
+    MavenSession session = mock(MavenSession.class);
+    when(session.getProjects()).thenReturn(Arrays.asList(projects));
+    when(session.getRequest()).thenReturn(request);
+    return session;
+  }
+}
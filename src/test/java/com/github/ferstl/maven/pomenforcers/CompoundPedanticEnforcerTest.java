@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.Collections;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * JUnit tests for {@link CompoundPedanticEnforcer}.
+ */
+class CompoundPedanticEnforcerTest {
+
+  @Test
+  void cancelledRuleIsReportedWithoutOtherErrors() {
+    CompoundPedanticEnforcer enforcer = new CompoundPedanticEnforcer(mock(MavenProject.class), mock(ExpressionEvaluator.class));
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+
+    enforcer.collectErrors(report, Collections.emptyList(), Collections.singletonList(PedanticEnforcerRule.MODULE_ORDER));
+
+    assertThat(report.hasErrors()).isTrue();
+    assertThat(report.isCancelled()).isTrue();
+    assertThat(report.toString())
+        .contains("These rules have not been checked because they exceeded their time budget:")
+        .contains("MODULE_ORDER")
+        .doesNotContain("Please fix these problems:");
+  }
+
+  @Test
+  void noErrorsWithoutViolationsAndCancelledRules() {
+    CompoundPedanticEnforcer enforcer = new CompoundPedanticEnforcer(mock(MavenProject.class), mock(ExpressionEvaluator.class));
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+
+    enforcer.collectErrors(report, Collections.emptyList(), Collections.emptyList());
+
+    assertThat(report.hasErrors()).isFalse();
+    assertThat(report.isCancelled()).isFalse();
+  }
+}
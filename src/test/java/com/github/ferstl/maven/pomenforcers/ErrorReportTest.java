@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.priority.MinimalMoves;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JUnit tests for {@link ErrorReport}.
+ */
+class ErrorReportTest {
+
+  @Test
+  void sameContentHasSameFingerprint() {
+    ErrorReport report1 = createReport("a", "b");
+    ErrorReport report2 = createReport("a", "b");
+
+    assertThat(report1.getFingerprint()).isEqualTo(report2.getFingerprint());
+  }
+
+  @Test
+  void differentContentHasDifferentFingerprint() {
+    ErrorReport report1 = createReport("a", "b");
+    ErrorReport report2 = createReport("a", "c");
+    ErrorReport report3 = new ErrorReport(PedanticEnforcerRule.DEPENDENCY_ORDER)
+        .addDiff(Arrays.asList("b", "a"), Arrays.asList("a", "b"), "Actual", "Required");
+
+    assertThat(report1.getFingerprint())
+        .isNotEqualTo(report2.getFingerprint())
+        .isNotEqualTo(report3.getFingerprint());
+  }
+
+  @Test
+  void referenceTo() {
+    ErrorReport report = createReport("a", "b");
+
+    String reference = report.referenceTo("com.example:project").toString();
+
+    assertThat(reference)
+        .startsWith("MODULE_ORDER: ")
+        .contains("Same violation as reported for com.example:project (fingerprint " + report.getFingerprint() + ").")
+        .doesNotContain("Actual");
+  }
+
+  @Test
+  void diffIsRenderedInToString() {
+    ErrorReport report = createReport("a", "b");
+
+    assertThat(report.toString())
+        .contains("Actual")
+        .contains("- b")
+        .contains("+ b");
+  }
+
+  @Test
+  void regionDiffOmitsEqualLeadingAndTrailingEntries() {
+    List<String> required = IntStream.range(0, 20).mapToObj(i -> "e" + (char) ('a' + i)).collect(Collectors.toList());
+    List<String> actual = new ArrayList<>(required);
+    Collections.swap(actual, 8, 10);
+
+    String report = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addRegionDiffUsingToString(actual, 8, 11, required.subList(8, 11), "Actual", "Required")
+        .toString();
+
+    assertThat(report)
+        .contains("(6 leading entries in the required order omitted)")
+        .contains("(7 trailing entries in the required order omitted)")
+        .contains("eg", "ei", "ek", "em")
+        .doesNotContain("  ef ", "  en ");
+  }
+
+  @Test
+  void regionDiffWithoutOmittedEntries() {
+    String report = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addRegionDiffUsingToString(Arrays.asList("b", "a"), 0, 2, Arrays.asList("a", "b"), "Actual", "Required")
+        .toString();
+
+    assertThat(report)
+        .contains("Actual")
+        .doesNotContain("omitted");
+  }
+
+  @Test
+  void minimalMoves() {
+    List<String> actual = IntStream.range(0, 20).mapToObj(i -> "e" + (char) ('a' + i)).collect(Collectors.toList());
+    actual.add(3, actual.remove(15));
+
+    String report = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addMinimalMoves(MinimalMoves.find(Comparator.<String>naturalOrder(), actual))
+        .toString();
+
+    assertThat(report)
+        .contains("1 of 20 entries are out of order.")
+        .contains("- ep: position 4 -> 16 (after eo)")
+        .doesNotContain("Actual");
+  }
+
+  private static ErrorReport createReport(String first, String second) {
+    return new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addLine("Modules:")
+        .addDiff(Arrays.asList(second, first), Arrays.asList(first, second), "Actual", "Required");
+  }
+}
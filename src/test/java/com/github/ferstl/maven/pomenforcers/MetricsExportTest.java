@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link MetricsExport}.
+ */
+class MetricsExportTest {
+
+  @TempDir
+  Path tempDir;
+
+  private MavenSession session;
+  private MavenExecutionRequest request;
+  private MavenProject project1;
+  private MavenProject project2;
+  private EnforcerLogger log;
+
+  @BeforeEach
+  void before() {
+    this.project1 = createProject("com.github.ferstl:module1:jar:1.0");
+    this.project2 = createProject("com.github.ferstl:module2:jar:1.0");
+
+    this.session = mock(MavenSession.class);
+    when(this.session.getProjects()).thenReturn(Arrays.asList(this.project1, this.project2));
+    when(this.session.getExecutionRootDirectory()).thenReturn(this.tempDir.toString());
+    this.request = new DefaultMavenExecutionRequest();
+    when(this.session.getRequest()).thenReturn(this.request);
+    this.log = mock(EnforcerLogger.class);
+  }
+
+  @Test
+  void fileIsWrittenInReactorOrderAtSessionEnd() throws IOException {
+    MetricsExport export = MetricsExport.forSession(this.session);
+    Path exportFile = this.tempDir.resolve("target/metrics.csv");
+
+    export.add(this.project2, PedanticEnforcerRule.POM_SECTION_ORDER, enforce(this.project2), "target/metrics.csv", this.log);
+    assertThat(exportFile).doesNotExist();
+    export.add(this.project1, PedanticEnforcerRule.POM_SECTION_ORDER, enforce(this.project1), "target/metrics.csv", this.log);
+    assertThat(exportFile).doesNotExist();
+    endSession();
+
+    List<String> lines = Files.readAllLines(exportFile, UTF_8);
+    assertThat(lines).hasSize(7);
+    assertThat(lines.get(0)).startsWith("module,rule,phase,");
+    assertThat(lines.subList(1, 4)).allMatch(line -> line.startsWith("com.github.ferstl:module1:jar:1.0,POM_SECTION_ORDER,"));
+    assertThat(lines.subList(4, 7)).allMatch(line -> line.startsWith("com.github.ferstl:module2:jar:1.0,POM_SECTION_ORDER,"));
+    assertThat(lines.get(3)).contains(",POM_SECTION_ORDER,POM_SECTION_ORDER,");
+    try (Stream<Path> files = Files.list(exportFile.getParent())) {
+      assertThat(files).containsExactly(exportFile);
+    }
+  }
+
+  @Test
+  void fileIsWrittenForPartialReactor() throws IOException {
+    MetricsExport export = MetricsExport.forSession(this.session);
+    Path exportFile = this.tempDir.resolve("target/metrics.json");
+
+    export.add(this.project2, PedanticEnforcerRule.POM_SECTION_ORDER, enforce(this.project2), "target/metrics.json", this.log);
+    endSession();
+
+    assertThat(new String(Files.readAllBytes(exportFile), UTF_8))
+        .contains("com.github.ferstl:module2:jar:1.0")
+        .doesNotContain("com.github.ferstl:module1:jar:1.0");
+  }
+
+  private void endSession() {
+    this.request.getExecutionListener().sessionEnded(mock(ExecutionEvent.class));
+  }
+
+  private ExecutionMetrics enforce(MavenProject project) {
+    PedanticPomSectionOrderEnforcer rule = new PedanticPomSectionOrderEnforcer(project, mock(ExpressionEvaluator.class));
+    rule.enforce();
+    return rule.getMetrics();
+  }
+
+  private static MavenProject createProject(String id) {
+    MavenProject project = mock(MavenProject.class);
+    when(project.getId()).thenReturn(id);
+    when(project.getFile()).thenReturn(new File("src/test/projects/warn-only/pom.xml"));
+    return project;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.util.Arrays;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import com.github.ferstl.maven.pomenforcers.metrics.AggregatedMetrics;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link MetricsSummary}.
+ */
+class MetricsSummaryTest {
+
+  private MavenSession session;
+  private MavenExecutionRequest request;
+  private MavenProject project;
+  private EnforcerLogger log;
+
+  @BeforeEach
+  void before() {
+    this.project = mock(MavenProject.class);
+    when(this.project.getId()).thenReturn("com.github.ferstl:module1:jar:1.0");
+    when(this.project.getFile()).thenReturn(new File("src/test/projects/warn-only/pom.xml"));
+
+    this.request = new DefaultMavenExecutionRequest();
+    this.session = mock(MavenSession.class);
+    when(this.session.getProjects()).thenReturn(Arrays.asList(this.project, mock(MavenProject.class)));
+    when(this.session.getRequest()).thenReturn(this.request);
+    this.log = mock(EnforcerLogger.class);
+  }
+
+  @Test
+  void summaryAtSessionEndForPartialReactor() {
+    MetricsSummary.forSession(this.session).add(this.project, enforce(this.project), this.log);
+    verify(this.log, never()).info(any(CharSequence.class));
+
+    this.request.getExecutionListener().sessionEnded(mock(ExecutionEvent.class));
+
+    ArgumentCaptor<CharSequence> summary = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).info(summary.capture());
+    assertThat(summary.getValue().toString())
+        .startsWith("Pedantic POM enforcers metrics for 1 of 2 projects:")
+        .contains("POM_SECTION_ORDER");
+  }
+
+  @Test
+  void pomSizeIsRecordedOncePerProject() {
+    MavenProject largeProject = mock(MavenProject.class);
+    when(largeProject.getId()).thenReturn("com.github.ferstl:module2:jar:1.0");
+    when(largeProject.getFile()).thenReturn(new File("src/test/projects/example-project/pom.xml"));
+    when(this.session.getProjects()).thenReturn(Arrays.asList(this.project, largeProject));
+    MetricsSummary summary = MetricsSummary.forSession(this.session);
+    summary.add(this.project, enforce(this.project), this.log);
+    summary.add(largeProject, enforce(largeProject), this.log);
+    summary.add(largeProject, enforce(largeProject), this.log);
+
+    summary.writeSummary();
+
+    AggregatedMetrics expected = new AggregatedMetrics();
+    expected.recordPomSize(this.project.getFile().length());
+    expected.recordPomSize(largeProject.getFile().length());
+    ArgumentCaptor<CharSequence> table = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).info(table.capture());
+    assertThat(table.getValue().toString()).contains(getPomSizeLine(expected.toTable()));
+  }
+
+  private static String getPomSizeLine(String table) {
+    return Arrays.stream(table.split("\n"))
+        .filter(line -> line.startsWith("POM size"))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  private ExecutionMetrics enforce(MavenProject project) {
+    PedanticPomSectionOrderEnforcer rule = new PedanticPomSectionOrderEnforcer(project, mock(ExpressionEvaluator.class));
+    rule.enforce();
+    return rule.getMetrics();
+  }
+}
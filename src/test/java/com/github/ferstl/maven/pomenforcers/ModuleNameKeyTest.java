@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import com.google.common.collect.Lists;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JUnit tests for {@link ModuleNameKey}.
+ */
+class ModuleNameKeyTest {
+
+  @Test
+  void numbersAreComparedByValue() {
+    assertThat(sort("module-10", "module-9", "module-100", "module-1"))
+        .containsExactly("module-1", "module-9", "module-10", "module-100");
+  }
+
+  @Test
+  void pathsAreComparedBySegment() {
+    assertThat(sort("core-impl", "core/api", "core", "core/api/v2"))
+        .containsExactly("core", "core/api", "core/api/v2", "core-impl");
+  }
+
+  @Test
+  void largeNumbers() {
+    assertThat(sort("m123456789012345678901", "m99999999999999999999"))
+        .containsExactly("m99999999999999999999", "m123456789012345678901");
+  }
+
+  @Test
+  void leadingZerosAndSeparators() {
+    assertThat(key("m010")).isGreaterThan(key("m9"));
+    assertThat(key("m010").compareTo(key("m10"))).isNotZero();
+    assertThat(key("a\\b").compareTo(key("a/b"))).isNotZero();
+    assertThat(key("a/b/").compareTo(key("a/b"))).isPositive();
+  }
+
+  @Test
+  void equalNames() {
+    assertThat(key("module-1")).isEqualByComparingTo(key("module-1")).isEqualTo(key("module-1"));
+  }
+
+  private static ModuleNameKey key(String name) {
+    return ModuleNameKey.of(name);
+  }
+
+  private static List<String> sort(String... names) {
+    List<ModuleNameKey> keys = Lists.transform(Arrays.asList(names), ModuleNameKey::of);
+    return keys.stream().sorted().map(ModuleNameKey::getName).collect(Collectors.toList());
+  }
+}
@@ -94,4 +94,47 @@ class PedanticModuleOrderEnforcerTest extends AbstractPedanticEnforcerTest<Pedan
     executeRuleAndCheckReport(true);
   }
 
+  @Test
+  void ignoredModulesAreNotReported() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("m9", "m2", "m1", "m9"));
+    this.testRule.setIgnoredModules("m9");
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.toString()).doesNotContain("  m9");
+  }
+
+  @Test
+  void numericOrder() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("core/api", "core-impl", "module-2", "module-9", "module-10"));
+    this.testRule.setNumericOrder(true);
+
+    executeRuleAndCheckReport(false);
+  }
+
+  @Test
+  void incorrectNumericOrder() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("module-10", "module-9"));
+    this.testRule.setNumericOrder(true);
+
+    executeRuleAndCheckReport(true);
+  }
+
+  @Test
+  void incorrectNumericOrderWithIgnores() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("dist", "module-10", "module-9", "dist"));
+    this.testRule.setIgnoredModules("dist");
+    this.testRule.setNumericOrder(true);
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.toString())
+        .contains("module-10", "module-9")
+        .doesNotContain("  dist");
+  }
+
+  @Test
+  void numericOrderIsNotEnforcedByDefault() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("module-2", "module-10"));
+
+    executeRuleAndCheckReport(true);
+  }
 }
@@ -20,6 +20,7 @@ import java.nio.file.Paths;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
@@ -84,6 +85,56 @@ class PedanticPluginElementEnforcerTest {
     assertThat(this.errorReport).hasErrors();
   }
 
+  @Test
+  void customOrderingForPluginManagementOnly() {
+    // arrange
+    Path pomFile = Paths.get("src/test/projects/plugins/pom.xml");
+    PedanticPluginElementEnforcer enforcer = createEnforcer(pomFile);
+
+    enforcer.setElementPriorities("version");
+    enforcer.setCheckPlugins(false);
+
+    // act
+    enforcer.doEnforce(this.errorReport);
+
+    // assert
+    assertThat(this.errorReport).hasErrors();
+  }
+
+  @Test
+  void pluginManagementAndPluginsAreReportedSeparately() {
+    // arrange
+    Path pomFile = Paths.get("src/test/projects/plugins/pom.xml");
+    PedanticPluginElementEnforcer enforcer = createEnforcer(pomFile);
+
+    enforcer.setElementPriorities("version");
+
+    // act
+    enforcer.doEnforce(this.errorReport);
+
+    // assert
+    Assertions.assertThat(this.errorReport.toString())
+        .contains("<pluginManagement>:")
+        .contains("<plugins>:");
+  }
+
+  @Test
+  void pluginManagementIsIgnoredWhenDisabled() {
+    // arrange
+    Path pomFile = Paths.get("src/test/projects/plugins/pom.xml");
+    PedanticPluginElementEnforcer enforcer = createEnforcer(pomFile);
+
+    enforcer.setElementPriorities("version");
+    enforcer.setCheckPluginManagement(false);
+
+    // act
+    enforcer.doEnforce(this.errorReport);
+
+    // assert
+    assertThat(this.errorReport).hasErrors();
+    Assertions.assertThat(this.errorReport.toString()).doesNotContain("<pluginManagement>:");
+  }
+
   private PedanticPluginElementEnforcer createEnforcer(Path pomFile) {
     Document document = XmlUtils.parseXml(pomFile.toFile());
     PedanticPluginElementEnforcer enforcer = new PedanticPluginElementEnforcer(this.mockMavenProject, this.mockHelper);
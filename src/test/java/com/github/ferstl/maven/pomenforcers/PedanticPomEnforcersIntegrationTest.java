@@ -16,12 +16,15 @@
 package com.github.ferstl.maven.pomenforcers;
 
 import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import io.takari.maven.testing.TestResources5;
 import io.takari.maven.testing.executor.MavenExecutionResult;
 import io.takari.maven.testing.executor.MavenRuntime;
 import io.takari.maven.testing.executor.MavenVersions;
 import io.takari.maven.testing.executor.junit.MavenPluginTest;
+import static org.assertj.core.api.Assertions.assertThat;
 
 // Enforcer plugin requires at least Maven version 3.6.3
 @MavenVersions({"3.9.11", "3.6.3"})
@@ -102,4 +105,56 @@ class PedanticPomEnforcersIntegrationTest {
     result.assertLogText("POM_SECTION_ORDER: ");
     result.assertLogText("DEPENDENCY_ORDER: ");
   }
+
+  @MavenPluginTest
+  void asyncWarnOnlySummaryWhenBuildFailsEarly() throws Exception {
+    File basedir = this.resources.getBasedir("async-warn-only");
+    MavenExecutionResult result = this.mavenRuntime
+        .forProject(basedir)
+        .execute("validate");
+
+    result.assertLogText("Pedantic POM enforcers: 1 warnings (1 distinct) in 3 of 4 projects");
+    result.assertLogText("BUILD FAILURE");
+    List<String> log = result.getLog();
+    assertThat(indexOf(log, "Pedantic POM enforcers: ")).isLessThan(indexOf(log, "BUILD FAILURE"));
+  }
+
+  @MavenPluginTest
+  void parallelBuild() throws Exception {
+    File basedir = this.resources.getBasedir("parallel-project");
+    MavenExecutionResult sequential = this.mavenRuntime
+        .forProject(basedir)
+        .execute("enforcer:enforce");
+    MavenExecutionResult parallel = this.mavenRuntime
+        .forProject(basedir)
+        .withCliOptions("-T", "8")
+        .execute("enforcer:enforce");
+
+    parallel.assertErrorFreeLog();
+    parallel.assertLogText("DEPENDENCY_ORDER: ");
+    assertThat(ruleOutput(parallel)).isEqualTo(ruleOutput(sequential));
+  }
+
+  private static int indexOf(List<String> log, String text) {
+    for (int i = 0; i < log.size(); i++) {
+      if (log.get(i).contains(text)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the sorted output lines of the enforcer rules. Sorting is required since the modules of parallel builds are
+   * not built in a deterministic order.
+   */
+  private static List<String> ruleOutput(MavenExecutionResult result) {
+    List<String> log = result.getLog();
+    int buildStart = log.indexOf("[INFO] Scanning for projects...");
+
+    return log.subList(buildStart, log.size()).stream()
+        .filter(line -> line.startsWith("[WARNING]") || (!line.isEmpty() && !line.startsWith("[")))
+        .sorted()
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.github.ferstl.maven.pomenforcers.generator.GeneratedReactor;
+import com.github.ferstl.maven.pomenforcers.generator.ReactorGenerator;
+import io.takari.maven.testing.executor.MavenExecutionResult;
+import io.takari.maven.testing.executor.MavenRuntime;
+import io.takari.maven.testing.executor.MavenVersions;
+import io.takari.maven.testing.executor.junit.MavenPluginTest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the compound rule on generated reactors of increasing size and checks that the wall time and the peak heap grow
+ * near-linearly with the number of modules. The results are written to <code>target/scale-tests/results.csv</code>.
+ * <p>
+ * This test is opt-in: <code>mvn -Pscale-tests test [-Dscale.modules=10000] [-Dscale.envelope=2.0]</code>. It runs
+ * offline with the embedded Maven runtime, so the measured heap and GC time include the Maven build.
+ */
+@MavenVersions({"3.9.11"})
+@EnabledIfSystemProperty(named = "scale.modules", matches = "\\d+")
+class PedanticPomEnforcersScaleTest {
+
+  private static final long SEED = 4711;
+  private static final Path WORK_DIR = Paths.get("target", "scale-tests");
+
+  private final MavenRuntime mavenRuntime;
+
+  PedanticPomEnforcersScaleTest(MavenRuntime.MavenRuntimeBuilder builder) throws Exception {
+    this.mavenRuntime = builder
+        .withCliOptions("-B", "-o")
+        .build();
+  }
+
+  @MavenPluginTest
+  void scalesNearLinearly() throws Exception {
+    int modules = Integer.getInteger("scale.modules");
+    double envelope = Double.parseDouble(System.getProperty("scale.envelope", "2.0"));
+
+    // Warm up the embedded Maven runtime so the smaller reactor is not dominated by first-use costs
+    run(Math.max(10, modules / 100));
+    ScaleResult small = run(Math.max(10, modules / 10));
+    ScaleResult large = run(modules);
+
+    assertThat(large.getMillisPerModule())
+        .as("Wall time per module (%s vs. %s)", large, small)
+        .isLessThanOrEqualTo(envelope * small.getMillisPerModule());
+    assertThat(large.getHeapPerModule())
+        .as("Peak heap per module (%s vs. %s)", large, small)
+        .isLessThanOrEqualTo(envelope * small.getHeapPerModule());
+  }
+
+  private ScaleResult run(int modules) throws Exception {
+    Path basedir = WORK_DIR.resolve("modules-" + modules);
+    deleteRecursively(basedir);
+    GeneratedReactor reactor = new ReactorGenerator(SEED)
+        .modules(modules)
+        .depth(3)
+        .dependencies(10)
+        .libraryModules(100)
+        .managedDependencies(500)
+        .managedPlugins(20)
+        .profiles(1)
+        .violationRate(0.01)
+        .enforcer("${it-plugin.version}")
+        .generate(basedir);
+
+    System.gc();
+    long baselineHeap = usedHeap();
+    ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    long gcMillisBefore = gcMillis();
+    long start = System.nanoTime();
+
+    MavenExecutionResult result = this.mavenRuntime
+        .forProject(basedir.toFile())
+        .execute("enforcer:enforce");
+
+    ScaleResult scaleResult = new ScaleResult(
+        modules,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+        peakHeap() - baselineHeap,
+        gcMillis() - gcMillisBefore);
+    record(scaleResult);
+
+    result.assertErrorFreeLog();
+    long warnedModules = result.getLog().stream()
+        .filter(line -> line.contains("CompoundPedanticEnforcer(compound) warned"))
+        .count();
+    assertThat(warnedModules).isEqualTo(reactor.getViolations().keySet().size());
+
+    return scaleResult;
+  }
+
+  private static long usedHeap() {
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static long peakHeap() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+        .sum();
+  }
+
+  private static long gcMillis() {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream()
+        .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+        .filter(time -> time > 0)
+        .sum();
+  }
+
+  private static void record(ScaleResult result) throws IOException {
+    Path resultFile = WORK_DIR.resolve("results.csv");
+    boolean newFile = !Files.exists(resultFile);
+    try (Writer writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      if (newFile) {
+        writer.write("modules,wallMillis,peakHeapBytes,gcMillis\n");
+      }
+      writer.write(result.modules + "," + result.wallMillis + "," + result.peakHeapBytes + "," + result.gcMillis + "\n");
+    }
+  }
+
+  private static void deleteRecursively(Path dir) throws IOException {
+    if (!Files.exists(dir)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  private static final class ScaleResult {
+
+    private final int modules;
+    private final long wallMillis;
+    private final long peakHeapBytes;
+    private final long gcMillis;
+
+    ScaleResult(int modules, long wallMillis, long peakHeapBytes, long gcMillis) {
+      this.modules = modules;
+      this.wallMillis = wallMillis;
+      this.peakHeapBytes = peakHeapBytes;
+      this.gcMillis = gcMillis;
+    }
+
+    double getMillisPerModule() {
+      return this.wallMillis / (double) this.modules;
+    }
+
+    double getHeapPerModule() {
+      return this.peakHeapBytes / (double) this.modules;
+    }
+
+    @Override
+    public String toString() {
+      return this.modules + " modules: " + this.wallMillis + " ms, " + this.peakHeapBytes / (1024 * 1024) + " MB peak heap, "
+          + this.gcMillis + " ms GC";
+    }
+  }
+}
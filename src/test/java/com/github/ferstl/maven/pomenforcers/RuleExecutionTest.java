@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import com.github.ferstl.maven.pomenforcers.metrics.ExecutionMetrics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link RuleExecution}.
+ */
+class RuleExecutionTest {
+
+  private RuleExecution execution;
+  private EnforcerLogger log;
+
+  @BeforeEach
+  void before() {
+    MavenProject project = mock(MavenProject.class);
+    when(project.getId()).thenReturn("com.github.ferstl:module1:pom:1.0");
+    this.execution = new RuleExecution(project);
+    this.log = mock(EnforcerLogger.class);
+  }
+
+  @Test
+  void ruleWithinTimeBudget() {
+    this.execution.setTimeBudget(60_000, true);
+
+    ErrorReport report = this.execution.run(PedanticEnforcerRule.MODULE_ORDER, true, r -> r.addLine("violation"), this.log);
+
+    assertThat(report.hasErrors()).isTrue();
+    assertThat(report.isCancelled()).isFalse();
+    assertThat(this.execution.getMetrics().getPhases().get("MODULE_ORDER").getViolations()).isEqualTo(1);
+    verify(this.log, never()).warn(any(CharSequence.class));
+  }
+
+  @Test
+  void slowRuleIsCancelled() {
+    this.execution.setTimeBudget(1, true);
+
+    ErrorReport report = this.execution.run(PedanticEnforcerRule.MODULE_ORDER, true, r -> {
+      r.addLine("partial violation");
+      waitTwoMilliseconds();
+      ExecutionMetrics.checkTimeBudget();
+      r.addLine("never reported");
+    }, this.log);
+
+    assertThat(report.hasErrors()).isFalse();
+    assertThat(report.isCancelled()).isTrue();
+    assertThat(this.execution.getMetrics().getPhases().get("MODULE_ORDER").isCancelled()).isTrue();
+    ArgumentCaptor<CharSequence> warning = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).warn(warning.capture());
+    assertThat(warning.getValue().toString())
+        .startsWith("MODULE_ORDER exceeded its time budget of 1 ms in com.github.ferstl:module1:pom:1.0 and has been skipped.");
+  }
+
+  @Test
+  void slowRuleIsReportedWithoutCancellation() {
+    this.execution.setTimeBudget(1, false);
+
+    ErrorReport report = this.execution.run(PedanticEnforcerRule.MODULE_ORDER, true, r -> {
+      waitTwoMilliseconds();
+      ExecutionMetrics.checkTimeBudget();
+      r.addLine("violation");
+    }, this.log);
+
+    assertThat(report.hasErrors()).isTrue();
+    assertThat(report.isCancelled()).isFalse();
+    ArgumentCaptor<CharSequence> warning = ArgumentCaptor.forClass(CharSequence.class);
+    verify(this.log).warn(warning.capture());
+    assertThat(warning.getValue().toString())
+        .startsWith("MODULE_ORDER exceeded its time budget of 1 ms in com.github.ferstl:module1:pom:1.0 (");
+  }
+
+  @Test
+  void ruleWithoutTimeBudget() {
+    this.execution.setTimeBudget(1, true);
+
+    ErrorReport report = this.execution.run(PedanticEnforcerRule.COMPOUND, false, r -> {
+      waitTwoMilliseconds();
+      ExecutionMetrics.checkTimeBudget();
+    }, this.log);
+
+    assertThat(report.isCancelled()).isFalse();
+    verify(this.log, never()).warn(any(CharSequence.class));
+  }
+
+  private static void waitTwoMilliseconds() {
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < 2_000_000) {
+      Thread.yield();
+    }
+  }
+}
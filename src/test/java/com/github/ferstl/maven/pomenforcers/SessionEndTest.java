@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link SessionEnd}.
+ */
+class SessionEndTest {
+
+  private MavenSession session;
+  private MavenExecutionRequest request;
+  private ExecutionListener executionListener;
+
+  @BeforeEach
+  void before() {
+    this.executionListener = mock(ExecutionListener.class);
+    this.request = new DefaultMavenExecutionRequest().setExecutionListener(this.executionListener);
+    this.session = mock(MavenSession.class);
+    when(this.session.getRequest()).thenReturn(this.request);
+  }
+
+  @Test
+  void callbacksRunOnceAtSessionEnd() {
+    Runnable callback = mock(Runnable.class);
+    SessionEnd.forSession(this.session).register(callback);
+
+    ExecutionEvent event = mock(ExecutionEvent.class);
+    this.request.getExecutionListener().projectStarted(event);
+    verify(callback, never()).run();
+
+    this.request.getExecutionListener().sessionEnded(event);
+    this.request.getExecutionListener().sessionEnded(event);
+
+    verify(callback).run();
+    verify(this.executionListener).projectStarted(event);
+    verify(this.executionListener, times(2)).sessionEnded(event);
+  }
+
+  @Test
+  void failingCallbackDoesNotAffectOthers() {
+    Runnable failingCallback = () -> {
+      throw new IllegalStateException("failed");
+    };
+    Runnable callback = mock(Runnable.class);
+    SessionEnd sessionEnd = SessionEnd.forSession(this.session);
+    sessionEnd.register(failingCallback);
+    sessionEnd.register(callback);
+
+    this.request.getExecutionListener().sessionEnded(mock(ExecutionEvent.class));
+
+    verify(callback).run();
+  }
+
+  @Test
+  void sessionsHaveSeparateCallbacks() {
+    MavenExecutionRequest otherRequest = new DefaultMavenExecutionRequest();
+    MavenSession otherSession = mock(MavenSession.class);
+    when(otherSession.getRequest()).thenReturn(otherRequest);
+    Runnable callback = mock(Runnable.class);
+    Runnable otherCallback = mock(Runnable.class);
+    SessionEnd.forSession(this.session).register(callback);
+    SessionEnd.forSession(otherSession).register(otherCallback);
+
+    otherRequest.getExecutionListener().sessionEnded(mock(ExecutionEvent.class));
+
+    verify(otherCallback).run();
+    verify(callback, never()).run();
+  }
+
+  @Test
+  void listenerIsWrappedOnce() {
+    SessionEnd sessionEnd = SessionEnd.forSession(this.session);
+    ExecutionListener listener = this.request.getExecutionListener();
+
+    assertThat(SessionEnd.forSession(this.session)).isSameAs(sessionEnd);
+    assertThat(this.request.getExecutionListener()).isSameAs(listener);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.generator;
+
+import java.nio.file.Path;
+import java.util.List;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Result of the {@link ReactorGenerator}: the location of the generated POM files and the violations that have been
+ * injected into them.
+ */
+public final class GeneratedReactor {
+
+  private final Path basedir;
+  private final List<Path> poms;
+  private final SetMultimap<String, PedanticEnforcerRule> violations;
+
+  GeneratedReactor(Path basedir, List<Path> poms, SetMultimap<String, PedanticEnforcerRule> violations) {
+    this.basedir = basedir;
+    this.poms = ImmutableList.copyOf(poms);
+    this.violations = ImmutableSetMultimap.copyOf(violations);
+  }
+
+  /**
+   * The directory containing the root POM.
+   */
+  public Path getBasedir() {
+    return this.basedir;
+  }
+
+  /**
+   * All generated POM files in reactor order, i.e. each aggregator before its modules.
+   */
+  public List<Path> getPoms() {
+    return this.poms;
+  }
+
+  /**
+   * The injected violations by artifact ID of the module.
+   */
+  public SetMultimap<String, PedanticEnforcerRule> getViolations() {
+    return this.violations;
+  }
+}
@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_CONFIGURATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ELEMENT;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_MANAGEMENT_LOCATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_MANAGEMENT_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_SCOPE;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.MODULE_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_CONFIGURATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_ELEMENT;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_MANAGEMENT_LOCATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_MANAGEMENT_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.POM_SECTION_ORDER;
+
+/**
+ * Generates synthetic reactors for scale tests and benchmarks. The generated reactor is determined by the seed and the
+ * configured shape, so the same configuration always produces the same POM files.
+ * <p>
+ * The reactor consists of a root POM, <code>depth - 1</code> levels of intermediate aggregators and the configured
+ * number of leaf modules. Each aggregator is the parent of its modules. The root POM manages the dependencies and
+ * plugins. The first managed dependencies are the leaf modules themselves, the remaining ones are artificial libraries.
+ * Leaf modules only depend on preceding leaf modules, so the dependencies can be collected offline from the reactor.
+ * For large reactors, {@link #libraryModules(int)} keeps the transitive dependencies of each module small.
+ * <p>
+ * Violations are injected with the configured rate for each POM and each rule that applies to the POM. They are
+ * detected by the compound rule that is configured with {@link #enforcer(String)}. The injected violations are listed
+ * in the {@link GeneratedReactor}.
+ */
+public final class ReactorGenerator {
+
+  public static final String GROUP_ID = "com.example.generated";
+  public static final String ROOT_ARTIFACT_ID = "root";
+
+  private static final String VERSION = "1.0-SNAPSHOT";
+  private static final String ENFORCER_PLUGIN_VERSION = "3.6.0";
+
+  private final long seed;
+  private int modules = 1;
+  private int depth = 1;
+  private int dependencies;
+  private int libraryModules;
+  private int managedDependencies;
+  private int managedPlugins;
+  private int profiles;
+  private double violationRate;
+  private String enforcerVersion;
+  private boolean warnOnly = true;
+
+  public ReactorGenerator(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Number of leaf modules.
+   */
+  public ReactorGenerator modules(int modules) {
+    this.modules = atLeast(1, modules, "modules");
+    return this;
+  }
+
+  /**
+   * Number of aggregator levels including the root POM. A depth of 1 means that the root POM aggregates all leaf
+   * modules.
+   */
+  public ReactorGenerator depth(int depth) {
+    this.depth = atLeast(1, depth, "depth");
+    return this;
+  }
+
+  /**
+   * Maximum number of dependencies of each leaf module. The actual number is limited by the number of preceding leaf
+   * modules.
+   */
+  public ReactorGenerator dependencies(int dependencies) {
+    this.dependencies = atLeast(0, dependencies, "dependencies");
+    return this;
+  }
+
+  /**
+   * Number of leading leaf modules that are libraries. Libraries have no dependencies and all other modules only depend
+   * on libraries. This keeps the transitive dependencies of each module as small as its direct dependencies, which
+   * Maven needs for collecting dependencies in large reactors. With 0, modules depend on any preceding module.
+   */
+  public ReactorGenerator libraryModules(int libraryModules) {
+    this.libraryModules = atLeast(0, libraryModules, "libraryModules");
+    return this;
+  }
+
+  /**
+   * Number of dependencies in the dependency management of the root POM.
+   */
+  public ReactorGenerator managedDependencies(int managedDependencies) {
+    this.managedDependencies = atLeast(0, managedDependencies, "managedDependencies");
+    return this;
+  }
+
+  /**
+   * Number of plugins in the plugin management of the root POM.
+   */
+  public ReactorGenerator managedPlugins(int managedPlugins) {
+    this.managedPlugins = atLeast(0, managedPlugins, "managedPlugins");
+    return this;
+  }
+
+  /**
+   * Number of profiles in each POM.
+   */
+  public ReactorGenerator profiles(int profiles) {
+    this.profiles = atLeast(0, profiles, "profiles");
+    return this;
+  }
+
+  /**
+   * Probability between 0 and 1 to inject a violation of an applicable rule into a POM.
+   */
+  public ReactorGenerator violationRate(double violationRate) {
+    if (violationRate < 0 || violationRate > 1) {
+      throw new IllegalArgumentException("violationRate must be between 0 and 1: " + violationRate);
+    }
+    this.violationRate = violationRate;
+    return this;
+  }
+
+  /**
+   * Configures the compound rule with all rules in the root POM.
+   *
+   * @param pluginVersion Version of the pedantic-pom-enforcers, e.g. <code>${it-plugin.version}</code>.
+   */
+  public ReactorGenerator enforcer(String pluginVersion) {
+    this.enforcerVersion = pluginVersion;
+    return this;
+  }
+
+  /**
+   * Whether the configured compound rule only warns about violations. Defaults to <code>true</code>.
+   */
+  public ReactorGenerator warnOnly(boolean warnOnly) {
+    this.warnOnly = warnOnly;
+    return this;
+  }
+
+  public GeneratedReactor generate(Path basedir) throws IOException {
+    Generation generation = new Generation();
+    generation.writeRoot(basedir);
+    return new GeneratedReactor(basedir, generation.poms, generation.violations);
+  }
+
+  private static int atLeast(int minimum, int value, String name) {
+    if (value < minimum) {
+      throw new IllegalArgumentException(name + " must be at least " + minimum + ": " + value);
+    }
+    return value;
+  }
+
+  private static String moduleName(int index) {
+    return String.format("module-%05d", index);
+  }
+
+  /**
+   * State of a single run of the generator.
+   */
+  private final class Generation {
+
+    private final Random random = new Random(ReactorGenerator.this.seed);
+    private final List<Path> poms = new ArrayList<>();
+    private final SetMultimap<String, PedanticEnforcerRule> violations = LinkedHashMultimap.create();
+    private final int fanout = (int) Math.max(2, Math.ceil(Math.pow(ReactorGenerator.this.modules, 1.0 / ReactorGenerator.this.depth)));
+    private final int managedModules = Math.min(ReactorGenerator.this.managedDependencies, ReactorGenerator.this.modules);
+
+    void writeRoot(Path dir) throws IOException {
+      List<Node> children = children(ROOT_ARTIFACT_ID, 0, ReactorGenerator.this.modules, 1);
+      boolean sectionViolation = inject(ROOT_ARTIFACT_ID, POM_SECTION_ORDER, true);
+
+      Pom pom = new Pom()
+          .line("<modelVersion>4.0.0</modelVersion>")
+          .line("<groupId>" + GROUP_ID + "</groupId>")
+          .line("<artifactId>" + ROOT_ARTIFACT_ID + "</artifactId>")
+          .line("<version>" + VERSION + "</version>")
+          .line("<packaging>pom</packaging>");
+      description(pom, ROOT_ARTIFACT_ID, !sectionViolation);
+      modules(pom, ROOT_ARTIFACT_ID, children);
+      managedDependencies(pom);
+      build(pom);
+      profiles(pom);
+      description(pom, ROOT_ARTIFACT_ID, sectionViolation);
+      write(dir, pom);
+
+      for (Node child : children) {
+        child.write(dir.resolve(child.name), ROOT_ARTIFACT_ID);
+      }
+    }
+
+    private List<Node> children(String name, int from, int to, int level) {
+      List<Node> children = new ArrayList<>();
+      if (level == ReactorGenerator.this.depth) {
+        for (int i = from; i < to; i++) {
+          children.add(new Node(moduleName(i), i, i + 1, 0));
+        }
+      } else {
+        int size = to - from;
+        int count = Math.min(this.fanout, size);
+        for (int i = 0; i < count; i++) {
+          String childName = (level == 1 ? "aggregator" : name) + String.format("-%02d", i);
+          children.add(new Node(childName, from + (int) ((long) size * i / count), from + (int) ((long) size * (i + 1) / count), level + 1));
+        }
+      }
+      return children;
+    }
+
+    private void writeAggregator(Path dir, Node node, String parent) throws IOException {
+      List<Node> children = children(node.name, node.from, node.to, node.level);
+      boolean sectionViolation = inject(node.name, POM_SECTION_ORDER, true);
+
+      Pom pom = new Pom()
+          .line("<modelVersion>4.0.0</modelVersion>");
+      parent(pom, parent);
+      pom.line("<artifactId>" + node.name + "</artifactId>")
+          .line("<packaging>pom</packaging>");
+      description(pom, node.name, !sectionViolation);
+      modules(pom, node.name, children);
+      profiles(pom);
+      description(pom, node.name, sectionViolation);
+      write(dir, pom);
+
+      for (Node child : children) {
+        child.write(dir.resolve(child.name), node.name);
+      }
+    }
+
+    private void writeLeaf(Path dir, int index, String parent) throws IOException {
+      String name = moduleName(index);
+      List<Integer> dependencies = pickDependencies(index);
+      int count = dependencies.size();
+
+      boolean sectionViolation = inject(name, POM_SECTION_ORDER, true);
+      boolean orderViolation = inject(name, DEPENDENCY_ORDER, count >= 2);
+      boolean configurationViolation = inject(name, DEPENDENCY_CONFIGURATION, count >= 1);
+      boolean elementViolation = inject(name, DEPENDENCY_ELEMENT, count >= 1);
+      // The scope violation must not fix an injected order violation
+      boolean scopeViolation = inject(name, DEPENDENCY_SCOPE, count >= (orderViolation ? 3 : 1));
+      boolean dependencyManagementViolation = inject(name, DEPENDENCY_MANAGEMENT_LOCATION, true);
+      boolean pluginConfigurationViolation = inject(name, PLUGIN_CONFIGURATION, true);
+      boolean pluginManagementViolation = inject(name, PLUGIN_MANAGEMENT_LOCATION, true);
+
+      if (orderViolation) {
+        dependencies.set(0, dependencies.set(1, dependencies.get(0)));
+      }
+
+      Pom pom = new Pom()
+          .line("<modelVersion>4.0.0</modelVersion>");
+      parent(pom, parent);
+      pom.line("<artifactId>" + name + "</artifactId>");
+      description(pom, name, !sectionViolation);
+
+      if (dependencyManagementViolation) {
+        pom.open("dependencyManagement").open("dependencies");
+        dependency(pom, "com.example.local", "local-library", "1.0", null, false);
+        pom.close("dependencies").close("dependencyManagement");
+      }
+
+      if (count > 0) {
+        pom.open("dependencies");
+        for (int i = 0; i < count; i++) {
+          int dependency = dependencies.get(i);
+          String version;
+          if (i == 0 && configurationViolation) {
+            version = VERSION;
+          } else {
+            version = dependency < this.managedModules ? null : "${project.version}";
+          }
+          String scope = i == count - 1 && scopeViolation ? "test" : null;
+          dependency(pom, GROUP_ID, moduleName(dependency), version, scope, i == 0 && elementViolation);
+        }
+        pom.close("dependencies");
+      }
+
+      if (pluginManagementViolation || pluginConfigurationViolation) {
+        pom.open("build");
+        if (pluginManagementViolation) {
+          pom.open("pluginManagement").open("plugins");
+          plugin(pom, "com.example.local", "local-maven-plugin", "1.0", false);
+          pom.close("plugins").close("pluginManagement");
+        }
+        if (pluginConfigurationViolation) {
+          pom.open("plugins");
+          plugin(pom, "com.example.plugins", "unmanaged-maven-plugin", "1.0", false);
+          pom.close("plugins");
+        }
+        pom.close("build");
+      }
+
+      profiles(pom);
+      description(pom, name, sectionViolation);
+      write(dir, pom);
+    }
+
+    private List<Integer> pickDependencies(int index) {
+      int libraries = ReactorGenerator.this.libraryModules;
+      int candidates = libraries == 0 ? index : index < libraries ? 0 : libraries;
+      int count = Math.min(ReactorGenerator.this.dependencies, candidates);
+      TreeSet<Integer> picked = new TreeSet<>();
+      if (count > candidates / 2) {
+        // Dense selection: drop random modules instead of picking them
+        for (int i = 0; i < candidates; i++) {
+          picked.add(i);
+        }
+        while (picked.size() > count) {
+          picked.remove(this.random.nextInt(candidates));
+        }
+      } else {
+        while (picked.size() < count) {
+          picked.add(this.random.nextInt(candidates));
+        }
+      }
+      return new ArrayList<>(picked);
+    }
+
+    /**
+     * Maps the position to the generated element if the elements at <code>swapped</code> and <code>swapped + 1</code>
+     * are swapped. No elements are swapped if <code>swapped</code> is negative.
+     */
+    private int swappedIndex(int i, int swapped) {
+      if (swapped < 0) {
+        return i;
+      }
+      return i == swapped ? i + 1 : i == swapped + 1 ? i - 1 : i;
+    }
+
+    private void parent(Pom pom, String parent) {
+      pom.open("parent")
+          .line("<groupId>" + GROUP_ID + "</groupId>")
+          .line("<artifactId>" + parent + "</artifactId>")
+          .line("<version>" + VERSION + "</version>")
+          .close("parent");
+    }
+
+    private void description(Pom pom, String name, boolean write) {
+      if (write) {
+        pom.line("<description>Generated module " + name + ".</description>");
+      }
+    }
+
+    private void modules(Pom pom, String name, List<Node> children) {
+      List<String> names = children.stream().map(child -> child.name).collect(Collectors.toList());
+      if (inject(name, MODULE_ORDER, names.size() >= 2)) {
+        names.set(0, names.set(1, names.get(0)));
+      }
+
+      pom.open("modules");
+      for (String module : names) {
+        pom.line("<module>" + module + "</module>");
+      }
+      pom.close("modules");
+    }
+
+    private void managedDependencies(Pom pom) {
+      int count = ReactorGenerator.this.managedDependencies;
+      if (count == 0) {
+        return;
+      }
+
+      int swapped = inject(ROOT_ARTIFACT_ID, DEPENDENCY_MANAGEMENT_ORDER, count >= 2) ? this.random.nextInt(count - 1) : -1;
+      pom.open("dependencyManagement").open("dependencies");
+      for (int i = 0; i < count; i++) {
+        int index = swappedIndex(i, swapped);
+        if (index < this.managedModules) {
+          dependency(pom, GROUP_ID, moduleName(index), "${project.version}", null, false);
+        } else {
+          dependency(pom, "com.example.managed", String.format("library-%05d", index), "1.0", null, false);
+        }
+      }
+      pom.close("dependencies").close("dependencyManagement");
+    }
+
+    private void build(Pom pom) {
+      int count = ReactorGenerator.this.managedPlugins;
+      boolean enforcer = ReactorGenerator.this.enforcerVersion != null;
+      if (count == 0 && !enforcer) {
+        return;
+      }
+
+      int swapped = inject(ROOT_ARTIFACT_ID, PLUGIN_MANAGEMENT_ORDER, count >= 2) ? this.random.nextInt(count - 1) : -1;
+      int elementViolation = inject(ROOT_ARTIFACT_ID, PLUGIN_ELEMENT, count >= 1) ? this.random.nextInt(count) : -1;
+      pom.open("build").open("pluginManagement").open("plugins");
+      for (int i = 0; i < count; i++) {
+        int index = swappedIndex(i, swapped);
+        plugin(pom, "com.example.plugins", String.format("plugin-%04d-maven-plugin", index), "1.0", i == elementViolation);
+      }
+      if (enforcer) {
+        enforcerPlugin(pom);
+      }
+      pom.close("plugins").close("pluginManagement");
+
+      if (enforcer) {
+        pom.open("plugins").open("plugin")
+            .line("<groupId>org.apache.maven.plugins</groupId>")
+            .line("<artifactId>maven-enforcer-plugin</artifactId>")
+            .close("plugin").close("plugins");
+      }
+      pom.close("build");
+    }
+
+    private void enforcerPlugin(Pom pom) {
+      String enforcers = Arrays.stream(PedanticEnforcerRule.values())
+          .filter(rule -> rule != PedanticEnforcerRule.COMPOUND)
+          .map(Enum::name)
+          .collect(Collectors.joining(","));
+
+      pom.open("plugin")
+          .line("<groupId>org.apache.maven.plugins</groupId>")
+          .line("<artifactId>maven-enforcer-plugin</artifactId>")
+          .line("<version>" + ENFORCER_PLUGIN_VERSION + "</version>")
+          .open("configuration").open("rules")
+          .line("<compound implementation=\"com.github.ferstl.maven.pomenforcers.CompoundPedanticEnforcer\">")
+          .line("  <enforcers>" + enforcers + "</enforcers>")
+          .line("  <compileDependencies>" + GROUP_ID + ":*</compileDependencies>")
+          .line("  <dependencyManagingPoms>" + GROUP_ID + ":" + ROOT_ARTIFACT_ID + "</dependencyManagingPoms>")
+          .line("  <pluginManagingPoms>" + GROUP_ID + ":" + ROOT_ARTIFACT_ID + "</pluginManagingPoms>")
+          .line("  <warnOnly>" + ReactorGenerator.this.warnOnly + "</warnOnly>")
+          .line("</compound>")
+          .close("rules").close("configuration")
+          .open("dependencies");
+      dependency(pom, "com.github.ferstl", "pedantic-pom-enforcers", ReactorGenerator.this.enforcerVersion, null, false);
+      pom.close("dependencies")
+          .close("plugin");
+    }
+
+    private void profiles(Pom pom) {
+      if (ReactorGenerator.this.profiles == 0) {
+        return;
+      }
+
+      pom.open("profiles");
+      for (int i = 0; i < ReactorGenerator.this.profiles; i++) {
+        pom.open("profile")
+            .line("<id>profile-" + i + "</id>")
+            .open("properties")
+            .line("<generated.profile>" + i + "</generated.profile>")
+            .close("properties")
+            .close("profile");
+      }
+      pom.close("profiles");
+    }
+
+    private void dependency(Pom pom, String groupId, String artifactId, String version, String scope, boolean elementViolation) {
+      pom.open("dependency");
+      if (elementViolation) {
+        pom.line("<artifactId>" + artifactId + "</artifactId>")
+            .line("<groupId>" + groupId + "</groupId>");
+      } else {
+        pom.line("<groupId>" + groupId + "</groupId>")
+            .line("<artifactId>" + artifactId + "</artifactId>");
+      }
+      if (version != null) {
+        pom.line("<version>" + version + "</version>");
+      }
+      if (scope != null) {
+        pom.line("<scope>" + scope + "</scope>");
+      }
+      pom.close("dependency");
+    }
+
+    private void plugin(Pom pom, String groupId, String artifactId, String version, boolean elementViolation) {
+      pom.open("plugin")
+          .line("<groupId>" + groupId + "</groupId>");
+      if (elementViolation) {
+        pom.line("<version>" + version + "</version>")
+            .line("<artifactId>" + artifactId + "</artifactId>");
+      } else {
+        pom.line("<artifactId>" + artifactId + "</artifactId>")
+            .line("<version>" + version + "</version>");
+      }
+      pom.close("plugin");
+    }
+
+    /**
+     * Decides whether a violation of the given rule is injected. The random number is drawn even if the rule does not
+     * apply, so the remaining reactor does not change when a rule becomes applicable.
+     */
+    private boolean inject(String name, PedanticEnforcerRule rule, boolean applicable) {
+      boolean inject = this.random.nextDouble() < ReactorGenerator.this.violationRate && applicable;
+      if (inject) {
+        this.violations.put(name, rule);
+      }
+      return inject;
+    }
+
+    private void write(Path dir, Pom pom) throws IOException {
+      Files.createDirectories(dir);
+      Path file = dir.resolve("pom.xml");
+      try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+        writer.write(pom.toString());
+      }
+      this.poms.add(file);
+    }
+
+    /**
+     * An aggregator or a leaf module which has not been written yet.
+     */
+    private final class Node {
+
+      private final String name;
+      private final int from;
+      private final int to;
+      private final int level;
+
+      Node(String name, int from, int to, int level) {
+        this.name = name;
+        this.from = from;
+        this.to = to;
+        this.level = level;
+      }
+
+      void write(Path dir, String parent) throws IOException {
+        if (this.level == 0) {
+          writeLeaf(dir, this.from, parent);
+        } else {
+          writeAggregator(dir, this, parent);
+        }
+      }
+    }
+  }
+
+  /**
+   * Minimal indenting XML writer for POM files.
+   */
+  private static final class Pom {
+
+    private final StringBuilder sb = new StringBuilder()
+        .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+        .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n")
+        .append("         xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 http://maven.apache.org/xsd/maven-4.0.0.xsd\">\n");
+    private int indent = 1;
+
+    Pom open(String element) {
+      line("<" + element + ">");
+      this.indent++;
+      return this;
+    }
+
+    Pom close(String element) {
+      this.indent--;
+      return line("</" + element + ">");
+    }
+
+    Pom line(String line) {
+      for (int i = 0; i < this.indent; i++) {
+        this.sb.append("  ");
+      }
+      this.sb.append(line).append('\n');
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return this.sb + "</project>\n";
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_CONFIGURATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ELEMENT;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_MANAGEMENT_LOCATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_MANAGEMENT_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_SCOPE;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.MODULE_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_CONFIGURATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_ELEMENT;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_MANAGEMENT_LOCATION;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.PLUGIN_MANAGEMENT_ORDER;
+import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.POM_SECTION_ORDER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * JUnit tests for {@link ReactorGenerator}.
+ */
+class ReactorGeneratorTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void sameSeedGeneratesSameReactor() throws IOException {
+    GeneratedReactor first = generator(42).violationRate(0.3).generate(this.tempDir.resolve("first"));
+    GeneratedReactor second = generator(42).violationRate(0.3).generate(this.tempDir.resolve("second"));
+
+    assertThat(contents(second)).isEqualTo(contents(first));
+    assertThat(second.getViolations()).isEqualTo(first.getViolations());
+  }
+
+  @Test
+  void differentSeedGeneratesDifferentReactor() throws IOException {
+    GeneratedReactor first = generator(42).violationRate(0.3).generate(this.tempDir.resolve("first"));
+    GeneratedReactor second = generator(43).violationRate(0.3).generate(this.tempDir.resolve("second"));
+
+    assertThat(contents(second)).isNotEqualTo(contents(first));
+  }
+
+  @Test
+  void shape() throws IOException {
+    GeneratedReactor reactor = generator(1).generate(this.tempDir);
+
+    // root, 5 aggregators, 20 leaf modules
+    assertThat(reactor.getPoms()).hasSize(1 + 5 + 20);
+    assertThat(reactor.getPoms().get(0)).isEqualTo(this.tempDir.resolve("pom.xml"));
+    assertThat(reactor.getPoms()).contains(this.tempDir.resolve("aggregator-00/module-00000/pom.xml"));
+    assertThat(reactor.getViolations().isEmpty()).isTrue();
+
+    ProjectModel root = XmlUtils.unmarshal(reactor.getPoms().get(0).toFile(), ProjectModel.class);
+    assertThat(root.getModules()).containsExactly("aggregator-00", "aggregator-01", "aggregator-02", "aggregator-03", "aggregator-04");
+    assertThat(root.getManagedDependencies()).hasSize(30);
+    // 5 plugins and the enforcer plugin
+    assertThat(root.getManagedPlugins()).hasSize(6);
+
+    Path lastModule = reactor.getPoms().get(reactor.getPoms().size() - 1);
+    assertThat(dependencyCount(lastModule)).isEqualTo(8);
+    assertThat(new String(Files.readAllBytes(lastModule), UTF_8).split("<profile>")).hasSize(3);
+  }
+
+  @Test
+  void dependenciesAreLimitedByPrecedingModules() throws IOException {
+    GeneratedReactor reactor = new ReactorGenerator(1).modules(3).dependencies(10).generate(this.tempDir);
+
+    assertThat(dependencyCount(reactor.getPoms().get(1))).isEqualTo(0);
+    assertThat(dependencyCount(reactor.getPoms().get(2))).isEqualTo(1);
+    assertThat(dependencyCount(reactor.getPoms().get(3))).isEqualTo(2);
+  }
+
+  @Test
+  void dependenciesOnLibraryModules() throws IOException {
+    GeneratedReactor reactor = new ReactorGenerator(1).modules(10).dependencies(10).libraryModules(3).generate(this.tempDir);
+
+    assertThat(dependencyCount(reactor.getPoms().get(3))).isEqualTo(0);
+    assertThat(XmlUtils.unmarshal(reactor.getPoms().get(10).toFile(), ProjectModel.class).getDependencies())
+        .extracting(DependencyModel::getArtifactId)
+        .containsExactly("module-00000", "module-00001", "module-00002");
+  }
+
+  @Test
+  void allApplicableViolationsAreInjected() throws IOException {
+    GeneratedReactor reactor = generator(1).violationRate(1).generate(this.tempDir);
+
+    assertThat(reactor.getViolations().get(ReactorGenerator.ROOT_ARTIFACT_ID)).containsExactly(
+        POM_SECTION_ORDER, MODULE_ORDER, DEPENDENCY_MANAGEMENT_ORDER, PLUGIN_MANAGEMENT_ORDER, PLUGIN_ELEMENT);
+    assertThat(reactor.getViolations().get("aggregator-00")).containsExactly(POM_SECTION_ORDER, MODULE_ORDER);
+    assertThat(reactor.getViolations().get("module-00000")).containsExactly(
+        POM_SECTION_ORDER, DEPENDENCY_MANAGEMENT_LOCATION, PLUGIN_CONFIGURATION, PLUGIN_MANAGEMENT_LOCATION);
+    assertThat(reactor.getViolations().get("module-00019")).containsExactly(
+        POM_SECTION_ORDER, DEPENDENCY_ORDER, DEPENDENCY_CONFIGURATION, DEPENDENCY_ELEMENT, DEPENDENCY_SCOPE,
+        DEPENDENCY_MANAGEMENT_LOCATION, PLUGIN_CONFIGURATION, PLUGIN_MANAGEMENT_LOCATION);
+  }
+
+  @Test
+  void invalidShape() {
+    ReactorGenerator generator = new ReactorGenerator(1);
+
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> generator.modules(0));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> generator.violationRate(1.5));
+  }
+
+  private static ReactorGenerator generator(long seed) {
+    return new ReactorGenerator(seed)
+        .modules(20)
+        .depth(2)
+        .dependencies(8)
+        .managedDependencies(30)
+        .managedPlugins(5)
+        .profiles(2)
+        .enforcer("1.0");
+  }
+
+  private static int dependencyCount(Path pom) {
+    return XmlUtils.unmarshal(pom.toFile(), ProjectModel.class).getDependencies().size();
+  }
+
+  private List<String> contents(GeneratedReactor reactor) throws IOException {
+    List<String> contents = new ArrayList<>();
+    for (Path pom : reactor.getPoms()) {
+      contents.add(reactor.getBasedir().relativize(pom) + "\n" + new String(Files.readAllBytes(pom), UTF_8));
+    }
+    return contents;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JUnit tests for {@link AggregatedMetrics}.
+ */
+class AggregatedMetricsTest {
+
+  @Test
+  void toTable() {
+    AggregatedMetrics aggregated = new AggregatedMetrics();
+    aggregated.add(createMetrics("module1", 1_000_000, 3_000_000));
+    aggregated.add(createMetrics("module2", 4_000_000, 0));
+    aggregated.recordPomSize(2048);
+    aggregated.recordPomSize(4096);
+
+    assertThat(aggregated.toTable()).isEqualTo(""
+        + "Phase         Count  Total [ms]  p50 [ms]  p90 [ms]  p99 [ms]  Max [ms]  Allocated [KB]\n"
+        + "parse             2       5.000     1.016     4.000     4.000     4.000             2.0\n"
+        + "MODULE_ORDER      1       3.000     3.000     3.000     3.000     3.000             1.0\n"
+        + "\n"
+        + "POM size [KB]: p50 2.1, p90 4.0, p99 4.0, max 4.0\n"
+        + "\n"
+        + "Slowest modules:\n"
+        + "parse: module2 (4.000 ms), module1 (1.000 ms)\n"
+        + "MODULE_ORDER: module1 (3.000 ms)");
+  }
+
+  @Test
+  void onlySlowestModulesAreKept() {
+    AggregatedMetrics aggregated = new AggregatedMetrics();
+    for (int i = 1; i <= 10; i++) {
+      aggregated.add(createMetrics("module" + i, i * 1_000_000L, 0));
+    }
+
+    assertThat(aggregated.toTable())
+        .endsWith("parse: module10 (10.000 ms), module9 (9.000 ms), module8 (8.000 ms), module7 (7.000 ms), module6 (6.000 ms)");
+  }
+
+  @Test
+  void cancelledPhasesAreCounted() {
+    AggregatedMetrics aggregated = new AggregatedMetrics();
+    for (int i = 1; i <= 3; i++) {
+      ExecutionMetrics metrics = createMetrics("module" + i, 1_000_000, 2_000_000);
+      if (i > 1) {
+        metrics.getPhases().get("MODULE_ORDER").markCancelled();
+      }
+      aggregated.add(metrics);
+    }
+
+    assertThat(aggregated.toTable())
+        .endsWith("\n\nCancelled after exceeding the time budget: MODULE_ORDER (2 modules)");
+  }
+
+  private static ExecutionMetrics createMetrics(String module, long parseNanos, long moduleOrderNanos) {
+    ExecutionMetrics metrics = new ExecutionMetrics(module, MetricsListener.NOOP);
+    metrics.record(ExecutionMetrics.PARSE, new Measurement(parseNanos, 1024));
+    if (moduleOrderNanos > 0) {
+      metrics.record("MODULE_ORDER", new Measurement(moduleOrderNanos, 1024));
+    }
+    return metrics;
+  }
+}
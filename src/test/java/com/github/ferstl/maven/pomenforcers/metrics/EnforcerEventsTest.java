@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.metrics.EnforcerEvents.Phase;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * JUnit tests for {@link EnforcerEvents}.
+ */
+class EnforcerEventsTest {
+
+  private static final String EVENT_NAME = "com.github.ferstl.pomenforcers.Phase";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void noopWithoutRecording() {
+    try (PhaseEvent event = EnforcerEvents.begin(Phase.PARSE)) {
+      assertThat(event).isSameAs(PhaseEvent.NOOP);
+      assertThat(event.isRecording()).isFalse();
+    }
+  }
+
+  @Test
+  void eventsAreRecorded() throws IOException {
+    assumeTrue(EnforcerEvents.isAvailable());
+
+    Path recordingFile = this.tempDir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(EVENT_NAME).withoutThreshold();
+      recording.start();
+
+      try (EventContext context = EnforcerEvents.context("com.example:module:jar:1.0", "MODULE_ORDER")) {
+        try (PhaseEvent event = EnforcerEvents.begin(Phase.ORDER_CHECK).withElements(42)) {
+          assertThat(event.isRecording()).isTrue();
+        }
+      }
+      try (PhaseEvent event = EnforcerEvents.begin(Phase.PARSE)) {
+        event.withElements(7);
+      }
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+        .filter(event -> EVENT_NAME.equals(event.getEventType().getName()))
+        .collect(Collectors.toList());
+
+    assertThat(events).hasSize(2);
+    RecordedEvent orderCheck = events.get(0);
+    assertThat(orderCheck.getString("phase")).isEqualTo("ORDER_CHECK");
+    assertThat(orderCheck.getString("module")).isEqualTo("com.example:module:jar:1.0");
+    assertThat(orderCheck.getString("rule")).isEqualTo("MODULE_ORDER");
+    assertThat(orderCheck.getInt("elementCount")).isEqualTo(42);
+
+    RecordedEvent parse = events.get(1);
+    assertThat(parse.getString("phase")).isEqualTo("PARSE");
+    assertThat(parse.getString("module")).isNull();
+    assertThat(parse.getInt("elementCount")).isEqualTo(7);
+  }
+}
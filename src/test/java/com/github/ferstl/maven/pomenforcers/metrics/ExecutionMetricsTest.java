@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JUnit tests for {@link ExecutionMetrics}.
+ */
+class ExecutionMetricsTest {
+
+  @Test
+  void measurementsOfSamePhaseAreSummedUp() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.record(ExecutionMetrics.PARSE, new Measurement(1_000_000, 1024));
+    metrics.record("MODULE_ORDER", new Measurement(2_000_000, 2048));
+    metrics.record(ExecutionMetrics.PARSE, new Measurement(500_000, 1024));
+
+    assertThat(metrics.getPhases()).containsOnlyKeys(ExecutionMetrics.PARSE, "MODULE_ORDER");
+    assertThat(metrics.getPhases().get(ExecutionMetrics.PARSE).getMeasurement().getNanos()).isEqualTo(1_500_000);
+    assertThat(metrics.getPhases().get(ExecutionMetrics.PARSE).getMeasurement().getAllocatedBytes()).isEqualTo(2048);
+  }
+
+  @Test
+  void unsupportedAllocationIsNotAvailable() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.record(ExecutionMetrics.BIND, new Measurement(1_000_000, 1024));
+    metrics.record(ExecutionMetrics.BIND, new Measurement(1_000_000, -1));
+
+    assertThat(metrics.getPhases().get(ExecutionMetrics.BIND).getMeasurement().hasAllocatedBytes()).isFalse();
+    assertThat(metrics.toTable()).contains("n/a");
+  }
+
+  @Test
+  void toTable() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.record(ExecutionMetrics.PARSE, new Measurement(1_500_000, 1536));
+    metrics.record("DEPENDENCY_ORDER", new Measurement(250_000, 512));
+
+    assertThat(metrics.toTable()).isEqualTo(""
+        + "Phase             Time [ms]  Allocated [KB]\n"
+        + "parse                 1.500             1.5\n"
+        + "DEPENDENCY_ORDER      0.250             0.5");
+  }
+
+  @Test
+  void countersAreAssignedToInnermostPhase() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    ExecutionMetrics.count(Counter.CACHE_HIT);
+    try (ExecutionMetrics.RunningPhase outer = metrics.start("COMPOUND")) {
+      ExecutionMetrics.count(Counter.CACHE_MISS);
+      try (ExecutionMetrics.RunningPhase inner = metrics.start("MODULE_ORDER")) {
+        ExecutionMetrics.count(Counter.CACHE_HIT);
+        ExecutionMetrics.count(Counter.CACHE_HIT);
+      }
+      ExecutionMetrics.count(Counter.CACHE_MISS);
+    }
+    ExecutionMetrics.count(Counter.CACHE_HIT);
+
+    PhaseMetrics compound = metrics.getPhases().get("COMPOUND");
+    PhaseMetrics moduleOrder = metrics.getPhases().get("MODULE_ORDER");
+    assertThat(compound.getCount(Counter.CACHE_HIT)).isZero();
+    assertThat(compound.getCount(Counter.CACHE_MISS)).isEqualTo(2);
+    assertThat(moduleOrder.getCount(Counter.CACHE_HIT)).isEqualTo(2);
+    assertThat(moduleOrder.getCount(Counter.CACHE_MISS)).isZero();
+  }
+
+  @Test
+  void diagnosticCountersRequireDiagnostics() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    try (ExecutionMetrics.RunningPhase phase = metrics.start("POM_SECTION_ORDER")) {
+      ExecutionMetrics.count(Counter.COMPARISON);
+      ExecutionMetrics.count(Counter.CACHE_HIT);
+    }
+
+    PhaseMetrics phase = metrics.getPhases().get("POM_SECTION_ORDER");
+    assertThat(phase.getCount(Counter.COMPARISON)).isZero();
+    assertThat(phase.getCount(Counter.CACHE_HIT)).isEqualTo(1);
+  }
+
+  @Test
+  void diagnostics() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.enableDiagnostics();
+    PriorityOrdering<String, String> ordering = new PriorityOrdering<>(Arrays.asList("b", "a"), Function.identity());
+    try (ExecutionMetrics.RunningPhase phase = metrics.start("MODULE_ORDER")) {
+      ordering.isOrdered(Arrays.asList("b", "a", "c"));
+    }
+
+    PhaseMetrics phase = metrics.getPhases().get("MODULE_ORDER");
+    assertThat(phase.getCount(Counter.COMPARISON)).isEqualTo(2);
+    assertThat(phase.getCount(Counter.RANK_LOOKUP)).isEqualTo(4);
+    assertThat(metrics.toDiagnosticsTable())
+        .startsWith("Dependencies: 0, managed dependencies: 0, plugins: 0, managed plugins: 0, modules: 0\n")
+        .contains("Comparisons  Orderings  Rank lookups");
+  }
+
+  @Test
+  void exceededTimeBudgetIsMarked() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.setTimeBudget(1, false);
+
+    try (ExecutionMetrics.RunningPhase phase = metrics.startWithBudget("DEPENDENCY_ORDER")) {
+      waitOneMillisecond();
+      ExecutionMetrics.count(Counter.COMPARISON);
+    }
+    try (ExecutionMetrics.RunningPhase phase = metrics.start("MODULE_ORDER")) {
+      waitOneMillisecond();
+    }
+
+    assertThat(metrics.getPhases().get("DEPENDENCY_ORDER").isTimeBudgetExceeded()).isTrue();
+    assertThat(metrics.getPhases().get("DEPENDENCY_ORDER").isCancelled()).isFalse();
+    assertThat(metrics.getPhases().get("MODULE_ORDER").isTimeBudgetExceeded()).isFalse();
+  }
+
+  @Test
+  void exceededTimeBudgetCancelsPhase() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.setTimeBudget(1, true);
+
+    assertThatThrownBy(() -> {
+      try (ExecutionMetrics.RunningPhase phase = metrics.startWithBudget("DEPENDENCY_ORDER")) {
+        waitOneMillisecond();
+        ExecutionMetrics.count(Counter.COMPARISON);
+      }
+    }).isInstanceOf(TimeBudgetExceededException.class)
+        .hasMessage("DEPENDENCY_ORDER exceeded its time budget of 0 ms");
+
+    assertThat(metrics.getPhases().get("DEPENDENCY_ORDER").isTimeBudgetExceeded()).isTrue();
+    assertThat(metrics.getPhases().get("DEPENDENCY_ORDER").isCancelled()).isTrue();
+    // The cancelled phase is no longer the current phase
+    ExecutionMetrics.count(Counter.COMPARISON);
+  }
+
+  @Test
+  void exceededTimeBudgetCancelsPhaseWithoutCounters() {
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.setTimeBudget(1, true);
+
+    assertThatThrownBy(() -> {
+      try (ExecutionMetrics.RunningPhase phase = metrics.startWithBudget("MODULE_ORDER")) {
+        waitOneMillisecond();
+        ExecutionMetrics.checkTimeBudget();
+      }
+    }).isInstanceOf(TimeBudgetExceededException.class);
+
+    assertThat(metrics.getPhases().get("MODULE_ORDER").isCancelled()).isTrue();
+    assertThat(metrics.getPhases().get("MODULE_ORDER").getCount(Counter.COMPARISON)).isZero();
+  }
+
+  @Test
+  void startedMeasurement() {
+    Measurement measurement = Measurement.start().stop();
+
+    assertThat(measurement.getNanos()).isNotNegative();
+    assertThat(measurement.hasAllocatedBytes()).isEqualTo(ThreadAllocation.isSupported());
+  }
+
+  private static void waitOneMillisecond() {
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < 1_000_000) {
+      Thread.yield();
+    }
+  }
+}
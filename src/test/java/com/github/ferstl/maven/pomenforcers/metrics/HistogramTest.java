@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * JUnit tests for {@link Histogram}.
+ */
+class HistogramTest {
+
+  @Test
+  void emptyHistogram() {
+    Histogram histogram = new Histogram();
+
+    assertThat(histogram.getValueAtPercentile(50)).isZero();
+    assertThat(histogram.getMax()).isZero();
+  }
+
+  @Test
+  void smallValuesAreExact() {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.getValueAtPercentile(50)).isEqualTo(5);
+    assertThat(histogram.getValueAtPercentile(90)).isEqualTo(9);
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10);
+  }
+
+  @Test
+  void relativeErrorIsBounded() {
+    Histogram histogram = new Histogram();
+    for (long i = 1; i <= 100_000; i++) {
+      histogram.record(i * 1000);
+    }
+
+    assertThat(histogram.getTotalCount()).isEqualTo(100_000);
+    assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 / 16.0));
+    assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 / 16.0));
+    assertThat(histogram.getMax()).isEqualTo(100_000_000);
+  }
+
+  @Test
+  void bucketBoundaries() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      long value = random.nextLong() >>> (1 + random.nextInt(63));
+      int index = Histogram.index(value);
+
+      assertThat(Histogram.upperBound(index)).isGreaterThanOrEqualTo(value);
+      assertThat(index == 0 || Histogram.upperBound(index - 1) < value).isTrue();
+    }
+    assertThat(Histogram.upperBound(Histogram.index(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void add() {
+    Histogram histogram1 = new Histogram();
+    histogram1.record(1);
+    Histogram histogram2 = new Histogram();
+    histogram2.record(100);
+
+    histogram1.add(histogram2);
+
+    assertThat(histogram1.getTotalCount()).isEqualTo(2);
+    assertThat(histogram1.getMax()).isEqualTo(100);
+    assertThat(histogram1.getValueAtPercentile(50)).isEqualTo(1);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link MetricsExportFormat}.
+ */
+class MetricsExportFormatTest {
+
+  private List<MetricsRow> rows;
+
+  @BeforeEach
+  void before() {
+    ProjectModel model = mock(ProjectModel.class);
+    when(model.getDependencies()).thenReturn(Collections.singletonList(mock(DependencyModel.class)));
+
+    ExecutionMetrics metrics = new ExecutionMetrics();
+    metrics.recordElementCounts(model);
+    metrics.record(ExecutionMetrics.PARSE, new Measurement(1000, 2048));
+    metrics.record("DEPENDENCY_ORDER", new Measurement(500, -1));
+    metrics.recordViolations("DEPENDENCY_ORDER", 1);
+
+    this.rows = MetricsRow.of("com.example:a,b:jar:1.0", "COMPOUND", metrics);
+  }
+
+  @Test
+  void forFileName() {
+    assertThat(MetricsExportFormat.forFileName("target/metrics.JSON")).isEqualTo(MetricsExportFormat.JSON);
+    assertThat(MetricsExportFormat.forFileName("target/metrics.csv")).isEqualTo(MetricsExportFormat.CSV);
+    assertThat(MetricsExportFormat.forFileName("metrics")).isEqualTo(MetricsExportFormat.CSV);
+  }
+
+  @Test
+  void csv() throws IOException {
+    StringWriter writer = new StringWriter();
+
+    MetricsExportFormat.CSV.write(this.rows, writer);
+
+    assertThat(writer.toString()).isEqualTo(""
+        + "module,rule,phase,durationNanos,allocatedBytes,dependencies,managedDependencies,plugins,managedPlugins,modules,cacheHits,cacheMisses,violations\n"
+        + "\"com.example:a,b:jar:1.0\",COMPOUND,parse,1000,2048,1,0,0,0,0,0,0,0\n"
+        + "\"com.example:a,b:jar:1.0\",COMPOUND,DEPENDENCY_ORDER,500,-1,1,0,0,0,0,0,0,1\n");
+  }
+
+  @Test
+  void json() throws IOException {
+    StringWriter writer = new StringWriter();
+
+    MetricsExportFormat.JSON.write(this.rows.subList(0, 1), writer);
+
+    assertThat(writer.toString()).isEqualTo(""
+        + "[\n"
+        + "  {\"module\": \"com.example:a,b:jar:1.0\", \"rule\": \"COMPOUND\", \"phase\": \"parse\", \"durationNanos\": 1000, "
+        + "\"allocatedBytes\": 2048, \"dependencies\": 1, \"managedDependencies\": 0, \"plugins\": 0, \"managedPlugins\": 0, "
+        + "\"modules\": 0, \"cacheHits\": 0, \"cacheMisses\": 0, \"violations\": 0}\n"
+        + "]\n");
+  }
+
+  @Test
+  void emptyJson() throws IOException {
+    StringWriter writer = new StringWriter();
+
+    MetricsExportFormat.JSON.write(Collections.emptyList(), writer);
+
+    assertThat(writer.toString()).isEqualTo("[]\n");
+  }
+}
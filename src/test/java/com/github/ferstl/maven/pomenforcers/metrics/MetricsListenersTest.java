@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.metrics;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.metrics.InMemoryMetricsListener.Notification;
+import com.github.ferstl.maven.pomenforcers.metrics.InMemoryMetricsListener.Type;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * JUnit tests for {@link MetricsListeners} and {@link MetricsListener}.
+ */
+class MetricsListenersTest {
+
+  private static final String MODULE = "com.example:module:jar:1.0";
+
+  @Test
+  void listenersAreDiscovered() throws IOException {
+    // Registered in src/test/resources/metrics-listener-spi/META-INF/services, which is not on the test class path.
+    URL spiDirectory = Paths.get("src/test/resources/metrics-listener-spi").toUri().toURL();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{spiDirectory}, MetricsListener.class.getClassLoader())) {
+      List<MetricsListener> listeners = MetricsListeners.load(classLoader);
+
+      assertThat(listeners).hasSize(1).first().isInstanceOf(InMemoryMetricsListener.class);
+      assertThat(MetricsListeners.combine(listeners)).isNotSameAs(MetricsListener.NOOP);
+    }
+  }
+
+  @Test
+  void noopWithoutRegisteredListeners() {
+    assertThat(MetricsListeners.getListeners()).isEmpty();
+    assertThat(MetricsListeners.get()).isSameAs(MetricsListener.NOOP);
+  }
+
+  @Test
+  void noListener() {
+    assertThat(MetricsListeners.combine(Collections.emptyList())).isSameAs(MetricsListener.NOOP);
+  }
+
+  @Test
+  void singleListener() {
+    InMemoryMetricsListener listener = new InMemoryMetricsListener();
+
+    assertThat(MetricsListeners.combine(Collections.singletonList(listener))).isSameAs(listener);
+  }
+
+  @Test
+  void severalListeners() {
+    InMemoryMetricsListener listener1 = new InMemoryMetricsListener();
+    InMemoryMetricsListener listener2 = new InMemoryMetricsListener();
+
+    MetricsListener combined = MetricsListeners.combine(Arrays.asList(listener1, listener2));
+    combined.phaseStarted(MODULE, ExecutionMetrics.PARSE);
+
+    assertThat(listener1.getNotifications()).hasSize(1);
+    assertThat(listener2.getNotifications()).hasSize(1);
+  }
+
+  @Test
+  void phasesAreReported() {
+    InMemoryMetricsListener listener = new InMemoryMetricsListener();
+    ExecutionMetrics metrics = new ExecutionMetrics(MODULE, listener);
+
+    try (ExecutionMetrics.RunningPhase parse = metrics.start(ExecutionMetrics.PARSE)) {
+      // nothing to do
+    }
+    try (ExecutionMetrics.RunningPhase compound = metrics.start("COMPOUND")) {
+      try (ExecutionMetrics.RunningPhase moduleOrder = metrics.start("MODULE_ORDER")) {
+        // nothing to do
+      }
+    }
+    metrics.finish("COMPOUND");
+
+    assertThat(listener.getNotifications(MODULE))
+        .extracting(Notification::getType, Notification::getName)
+        .containsExactly(
+            tuple(Type.PHASE_STARTED, ExecutionMetrics.PARSE),
+            tuple(Type.PHASE_FINISHED, ExecutionMetrics.PARSE),
+            tuple(Type.PHASE_STARTED, "COMPOUND"),
+            tuple(Type.PHASE_STARTED, "MODULE_ORDER"),
+            tuple(Type.PHASE_FINISHED, "MODULE_ORDER"),
+            tuple(Type.PHASE_FINISHED, "COMPOUND"),
+            tuple(Type.EXECUTION_FINISHED, "COMPOUND"));
+    assertThat(listener.getNotifications().get(1).getMeasurement()).isNotNull();
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.File;
+import javax.xml.bind.JAXB;
+import org.junit.jupiter.api.Test;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.DEPENDENCIES;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.DEPENDENCY_MANAGEMENT;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.MODULES;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.PLUGINS;
+import static com.github.ferstl.maven.pomenforcers.model.ContentSection.PLUGIN_MANAGEMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentSectionTest {
+
+  @Test
+  void scanParentPom() {
+    ProjectModel model = JAXB.unmarshal(new File("src/test/projects/example-project/pom.xml"), ProjectModel.class);
+
+    assertThat(ContentSection.scan(model)).containsExactly(MODULES, DEPENDENCY_MANAGEMENT, PLUGIN_MANAGEMENT, PLUGINS);
+  }
+
+  @Test
+  void scanModulePom() {
+    ProjectModel model = JAXB.unmarshal(new File("src/test/projects/example-project/module1/pom.xml"), ProjectModel.class);
+
+    assertThat(ContentSection.scan(model)).containsExactly(DEPENDENCIES, PLUGIN_MANAGEMENT, PLUGINS);
+  }
+
+  @Test
+  void scanEmptyModel() {
+    assertThat(ContentSection.scan(new ProjectModel())).isEmpty();
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.ARTIFACT_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.GROUP_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.SCOPE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompoundPriorityOrderingTest {
+
+  private DependencyModel zCompile;
+  private DependencyModel aTest;
+  private CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering;
+
+  @BeforeEach
+  void before() {
+    this.zCompile = new DependencyModel("z.group", "a-artifact", "1.0", "compile", null, null);
+    this.aTest = new DependencyModel("a.group", "z-artifact", "1.0", "test", null, null);
+    this.ordering = CompoundPriorityOrdering.orderBy(SCOPE, GROUP_ID, ARTIFACT_ID);
+  }
+
+  @Test
+  void compare() {
+    assertThat(this.ordering.compare(this.zCompile, this.aTest)).isLessThan(0);
+    assertThat(this.ordering.compare(this.aTest, this.zCompile)).isGreaterThan(0);
+    assertThat(this.ordering.compare(this.aTest, this.aTest)).isEqualTo(0);
+  }
+
+  @Test
+  void setPriorities() {
+    this.ordering.setPriorities(SCOPE, Arrays.asList("test", "compile"));
+
+    assertThat(this.ordering.compare(this.zCompile, this.aTest)).isGreaterThan(0);
+  }
+
+  @Test
+  void setPrioritiesReplacesPreviousPriorities() {
+    this.ordering.setPriorities(SCOPE, Arrays.asList("test", "compile"));
+    this.ordering.setPriorities(SCOPE, Arrays.asList("compile", "test"));
+
+    assertThat(this.ordering.compare(this.zCompile, this.aTest)).isLessThan(0);
+  }
+
+  @Test
+  void redefineOrderBy() {
+    this.ordering.setPriorities(GROUP_ID, Arrays.asList("z."));
+    this.ordering.redefineOrderBy(Arrays.asList(ARTIFACT_ID, GROUP_ID));
+
+    assertThat(this.ordering.compare(this.zCompile, this.aTest)).isLessThan(0);
+
+    this.ordering.redefineOrderBy(Arrays.asList(GROUP_ID));
+
+    // the priorities are kept after redefining the order
+    assertThat(this.ordering.compare(this.zCompile, this.aTest)).isLessThan(0);
+  }
+
+  @Test
+  void sortedCopyIsSameAsSortingWithCompare() {
+    this.ordering.setPriorities(GROUP_ID, Arrays.asList("b", "a.b", "c"));
+    this.ordering.setPriorities(ARTIFACT_ID, Arrays.asList("x", "y"));
+    List<DependencyModel> dependencies = randomDependencies(new Random(42), 500);
+
+    List<DependencyModel> expected = new ArrayList<>(dependencies);
+    expected.sort(this.ordering::compare);
+
+    assertThat(this.ordering.sortedCopy(dependencies)).containsExactlyElementsOf(expected);
+    assertThat(this.ordering.immutableSortedCopy(dependencies)).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void sortedCopyAfterLargerSort() {
+    Random random = new Random(7);
+    this.ordering.sortedCopy(randomDependencies(random, 500));
+    List<DependencyModel> dependencies = randomDependencies(random, 50);
+
+    List<DependencyModel> expected = new ArrayList<>(dependencies);
+    expected.sort(this.ordering::compare);
+
+    assertThat(this.ordering.sortedCopy(new LinkedList<>(dependencies))).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void sortedCopyOfEmptyAndSingleElement() {
+    assertThat(this.ordering.sortedCopy(new ArrayList<>())).isEmpty();
+    assertThat(this.ordering.sortedCopy(Arrays.asList(this.aTest))).containsExactly(this.aTest);
+  }
+
+  @Test
+  void isOrderedIsSameAsComparingNeighbours() {
+    this.ordering.setPriorities(GROUP_ID, Arrays.asList("b", "a.b", "c"));
+    Random random = new Random(4711);
+
+    for (int i = 0; i < 200; i++) {
+      List<DependencyModel> dependencies = randomDependencies(random, 3);
+      boolean expected = this.ordering.compare(dependencies.get(0), dependencies.get(1)) <= 0
+          && this.ordering.compare(dependencies.get(1), dependencies.get(2)) <= 0;
+
+      assertThat(this.ordering.isOrdered(dependencies)).as(dependencies.toString()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void isOrderedOnSeveralThreads() throws Exception {
+    List<DependencyModel> unsorted = randomDependencies(new Random(42), 100);
+    List<DependencyModel> sorted = this.ordering.sortedCopy(unsorted);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(executor.submit(() -> this.ordering.isOrdered(sorted) && !this.ordering.isOrdered(unsorted)));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void findViolationsIsSameAsGenericCheck() {
+    this.ordering.setPriorities(GROUP_ID, Arrays.asList("b", "a.b", "c"));
+    List<DependencyModel> dependencies = randomDependencies(new Random(11), 100);
+
+    OrderViolations violations = this.ordering.findViolations(dependencies);
+
+    assertThat(violations.getPositions())
+        .isNotEmpty()
+        .isEqualTo(OrderViolations.find(this.ordering, dependencies).getPositions());
+    assertThat(this.ordering.findViolations(this.ordering.sortedCopy(dependencies)).isEmpty()).isTrue();
+  }
+
+  private static List<DependencyModel> randomDependencies(Random random, int size) {
+    String[] scopes = {"compile", "test", "provided", "import"};
+    List<DependencyModel> dependencies = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      String groupId = "abc".charAt(random.nextInt(3)) + "." + "abc".charAt(random.nextInt(3));
+      String artifactId = "xyz".charAt(random.nextInt(3)) + "-" + random.nextInt(3);
+      String scope = scopes[random.nextInt(scopes.length)];
+      dependencies.add(new DependencyModel(groupId, artifactId, "1.0", scope, null, null));
+    }
+    return dependencies;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.priority.MinimalMoves.Move;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinimalMovesTest {
+
+  @Test
+  void ordered() {
+    MinimalMoves<String> moves = MinimalMoves.find(Comparator.naturalOrder(), Arrays.asList("a", "b", "b", "c"));
+
+    assertThat(moves.isEmpty()).isTrue();
+    assertThat(moves.getSize()).isEqualTo(4);
+  }
+
+  @Test
+  void empty() {
+    MinimalMoves<String> moves = MinimalMoves.find(Comparator.naturalOrder(), Collections.<String>emptyList());
+
+    assertThat(moves.isEmpty()).isTrue();
+    assertThat(moves.getSize()).isZero();
+  }
+
+  @Test
+  void singleMisplacedElement() {
+    MinimalMoves<String> moves = MinimalMoves.find(Comparator.naturalOrder(), Arrays.asList("a", "b", "e", "c", "d", "f"));
+
+    assertThat(moves.getMoves()).hasSize(1);
+    Move<String> move = moves.getMoves().get(0);
+    assertThat(move.getElement()).isEqualTo("e");
+    assertThat(move.getSource()).isEqualTo(2);
+    assertThat(move.getTarget()).isEqualTo(4);
+    assertThat(move.getPredecessor()).isEqualTo("d");
+  }
+
+  @Test
+  void moveToFirstPosition() {
+    MinimalMoves<String> moves = MinimalMoves.find(Comparator.naturalOrder(), Arrays.asList("b", "c", "a"));
+
+    assertThat(moves.getMoves()).hasSize(1);
+    Move<String> move = moves.getMoves().get(0);
+    assertThat(move.getElement()).isEqualTo("a");
+    assertThat(move.getTarget()).isZero();
+    assertThat(move.getPredecessor()).isNull();
+  }
+
+  @Test
+  void reversed() {
+    MinimalMoves<String> moves = MinimalMoves.find(Comparator.naturalOrder(), Arrays.asList("d", "c", "b", "a"));
+
+    assertThat(moves.getMoves()).hasSize(3);
+  }
+
+  @Test
+  void applyingTheMovesOrdersTheElements() {
+    Random random = new Random(42);
+    for (int run = 0; run < 100; run++) {
+      List<Integer> actual = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        actual.add(random.nextInt(30));
+      }
+
+      MinimalMoves<Integer> moves = MinimalMoves.find(Comparator.naturalOrder(), actual);
+
+      List<Integer> sorted = new ArrayList<>(actual);
+      Collections.sort(sorted);
+      assertThat(moves.getMoves()).hasSize(actual.size() - longestNonDecreasingSubsequence(actual));
+      for (Move<Integer> move : moves.getMoves()) {
+        assertThat(sorted.get(move.getTarget())).isEqualTo(move.getElement());
+        assertThat(actual.get(move.getSource())).isEqualTo(move.getElement());
+      }
+    }
+  }
+
+  private static int longestNonDecreasingSubsequence(List<Integer> elements) {
+    int[] lengths = new int[elements.size()];
+    int longest = 0;
+    for (int i = 0; i < elements.size(); i++) {
+      lengths[i] = 1;
+      for (int j = 0; j < i; j++) {
+        if (elements.get(j) <= elements.get(i)) {
+          lengths[i] = Math.max(lengths[i], lengths[j] + 1);
+        }
+      }
+      longest = Math.max(longest, lengths[i]);
+    }
+    return longest;
+  }
+}
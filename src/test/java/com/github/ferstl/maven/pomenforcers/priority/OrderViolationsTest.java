@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderViolationsTest {
+
+  @Test
+  void ordered() {
+    OrderViolations violations = OrderViolations.find(Comparator.naturalOrder(), Arrays.asList("a", "b", "b", "c"));
+
+    assertThat(violations.isEmpty()).isTrue();
+    assertThat(violations.getSize()).isEqualTo(4);
+    assertThat(violations.getFirstPosition()).isEqualTo(-1);
+    assertThat(violations.getLastPosition()).isEqualTo(-1);
+    assertThat(violations.getPositions()).isEmpty();
+  }
+
+  @Test
+  void empty() {
+    OrderViolations violations = OrderViolations.find(Comparator.naturalOrder(), Collections.<String>emptyList());
+
+    assertThat(violations.isEmpty()).isTrue();
+    assertThat(violations.getSize()).isZero();
+  }
+
+  @Test
+  void allViolationsAreFound() {
+    OrderViolations violations = OrderViolations.find(Comparator.naturalOrder(), Arrays.asList("b", "a", "c", "d", "a", "e"));
+
+    assertThat(violations.isEmpty()).isFalse();
+    assertThat(violations.getSize()).isEqualTo(6);
+    assertThat(violations.getFirstPosition()).isEqualTo(1);
+    assertThat(violations.getLastPosition()).isEqualTo(4);
+    assertThat(violations.getPositions()).containsExactly(1, 4);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+  @Test
+  void rank() {
+    PrefixTrie trie = PrefixTrie.compile(Arrays.asList("com.example.team", "com.example", "org", "com"));
+
+    assertThat(trie.rank("com.example.team.a")).isEqualTo(0);
+    assertThat(trie.rank("com.example.other")).isEqualTo(1);
+    assertThat(trie.rank("com.example")).isEqualTo(1);
+    assertThat(trie.rank("com.other")).isEqualTo(3);
+    assertThat(trie.rank("org.example")).isEqualTo(2);
+    assertThat(trie.rank("net.example")).isEqualTo(RankIndex.UNRANKED);
+    assertThat(trie.rank("co")).isEqualTo(RankIndex.UNRANKED);
+    assertThat(trie.rank("")).isEqualTo(RankIndex.UNRANKED);
+  }
+
+  @Test
+  void rankWithShorterPrefixDeclaredFirst() {
+    PrefixTrie trie = PrefixTrie.compile(Arrays.asList("com", "com.example"));
+
+    assertThat(trie.rank("com.example.a")).isEqualTo(0);
+  }
+
+  @Test
+  void rankWithDuplicatesAndEmptyPrefix() {
+    PrefixTrie trie = PrefixTrie.compile(Arrays.asList("org", "", "org", "com"));
+
+    assertThat(trie.rank("org.example")).isEqualTo(0);
+    assertThat(trie.rank("com.example")).isEqualTo(1);
+    assertThat(trie.rank("")).isEqualTo(1);
+  }
+
+  @Test
+  void rankWithoutPrefixes() {
+    PrefixTrie trie = PrefixTrie.compile(new ArrayList<>());
+
+    assertThat(trie.rank("com.example")).isEqualTo(RankIndex.UNRANKED);
+  }
+
+  @Test
+  void rankIsSameAsLinearScan() {
+    Random random = new Random(4711);
+    List<String> prefixes = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      prefixes.add(randomKey(random));
+    }
+    PrefixTrie trie = PrefixTrie.compile(prefixes);
+
+    for (int i = 0; i < 10000; i++) {
+      String key = randomKey(random) + randomKey(random);
+      assertThat(trie.rank(key)).as(key).isEqualTo(linearRank(prefixes, key));
+    }
+  }
+
+  private static String randomKey(Random random) {
+    StringBuilder sb = new StringBuilder();
+    int length = random.nextInt(5);
+    for (int i = 0; i < length; i++) {
+      sb.append("abc.".charAt(random.nextInt(4)));
+    }
+    return sb.toString();
+  }
+
+  private static int linearRank(List<String> prefixes, String key) {
+    for (int i = 0; i < prefixes.size(); i++) {
+      if (key.startsWith(prefixes.get(i))) {
+        return i;
+      }
+    }
+    return RankIndex.UNRANKED;
+  }
+}
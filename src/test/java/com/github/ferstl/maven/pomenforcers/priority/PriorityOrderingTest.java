@@ -18,7 +18,9 @@ package com.github.ferstl.maven.pomenforcers.priority;
 import java.util.ArrayList;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
+import com.google.common.base.Equivalence;
 import com.google.common.collect.Lists;
+import static com.github.ferstl.maven.pomenforcers.model.functions.StringStartsWithEquivalence.stringStartsWith;
 import static org.assertj.core.api.Assertions.assertThat;
 
 
@@ -56,5 +58,38 @@ class PriorityOrderingTest {
     assertThat(testComparator.compare("b", "a")).isGreaterThan(0);
   }
 
+  @Test
+  void testCompareWithDuplicatePriorities() {
+    ArrayList<String> prioritizedItems = Lists.newArrayList("y", "x", "y");
+    PriorityOrdering<String, String> testComparator = new PriorityOrdering<>(prioritizedItems, Function.identity());
+
+    // the first occurrence of y determines its rank
+    assertThat(testComparator.compare("y", "x")).isLessThan(0);
+  }
+
+  @Test
+  void testCompareWithStartsWith() {
+    ArrayList<String> prioritizedItems = Lists.newArrayList("com.example", "com", "com.example.team", "org");
+    PriorityOrdering<String, String> testComparator =
+        new PriorityOrdering<>(prioritizedItems, Function.identity(), stringStartsWith());
 
+    // the first declared matching prefix wins, not the longest one
+    assertThat(testComparator.compare("com.example.team.a", "com.other")).isLessThan(0);
+    // the later com.example.team prefix doesn't matter, so both have the same rank and are compared naturally
+    assertThat(testComparator.compare("com.example.team.a", "com.example.b")).isGreaterThan(0);
+    assertThat(testComparator.compare("com.other", "org.example")).isLessThan(0);
+    // items without a matching prefix are sorted after the prefixed ones
+    assertThat(testComparator.compare("net.example", "org.example")).isGreaterThan(0);
+    assertThat(testComparator.compare("co", "org")).isGreaterThan(0);
+  }
+
+  @Test
+  void testCompareWithCustomEquivalence() {
+    ArrayList<String> prioritizedItems = Lists.newArrayList("B", "A");
+    Equivalence<String> ignoreCase = Equivalence.equals().onResultOf(String::toUpperCase);
+    PriorityOrdering<String, String> testComparator = new PriorityOrdering<>(prioritizedItems, Function.identity(), ignoreCase);
+
+    assertThat(testComparator.compare("b", "a")).isLessThan(0);
+    assertThat(testComparator.compare("a", "c")).isLessThan(0);
+  }
 }